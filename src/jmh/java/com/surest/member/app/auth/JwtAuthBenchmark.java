@@ -0,0 +1,51 @@
+package com.surest.member.app.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication overhead in JwtAuthFilter:
+ * the old double parse (username + roles), a single verify, and a verified-token cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthBenchmark {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache tokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        tokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 10_000);
+        token = jwtUtil.generateToken("benchmark-user", List.of("ROLE_USER", "ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public void doubleParse(Blackhole bh) {
+        bh.consume(jwtUtil.getUsernameFromToken(token));
+        bh.consume(jwtUtil.getRoles(token));
+    }
+
+    @Benchmark
+    public JwtPrincipal singleVerify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return tokenCache.verify(token);
+    }
+}
@@ -0,0 +1,45 @@
+package com.surest.member.app.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of jjwt vs the fast HMAC verifier on a token from JwtUtil.generateToken.
+ * Allocation rate comes from the gc profiler configured in build.gradle (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtVerifierBenchmark {
+
+    private JwtUtil jjwt;
+    private JwtUtil fast;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jjwt = new JwtUtil();
+        jjwt.setVerifier("jjwt");
+        fast = new JwtUtil();
+        fast.setVerifier("fast");
+        token = jjwt.generateToken("benchmark-user", List.of("ROLE_USER", "ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public JwtPrincipal jjwtVerify() {
+        return jjwt.verify(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal fastVerify() {
+        return fast.verify(token);
+    }
+}
@@ -0,0 +1,54 @@
+package com.surest.member.app.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter-path cost of the revocation check: cached verify alone vs cached verify + isRevoked,
+ * with 100k active revocations loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RevocationCheckBenchmark {
+
+    private VerifiedTokenCache tokenCache;
+    private TokenRevocationService revocationService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        tokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 10_000);
+        // No repository needed: entries are seeded in memory only
+        revocationService = new TokenRevocationService(null, new SimpleMeterRegistry(), 100_000, 0.01);
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.DAYS);
+        for (int i = 0; i < 100_000; i++) {
+            revocationService.remember(UUID.randomUUID().toString(), expiresAt);
+        }
+        token = jwtUtil.generateToken("benchmark-user", List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public JwtPrincipal withoutRevocationCheck() {
+        return tokenCache.verify(token);
+    }
+
+    @Benchmark
+    public boolean withRevocationCheck() {
+        JwtPrincipal principal = tokenCache.verify(token);
+        return revocationService.isRevoked(principal.tokenId());
+    }
+}
@@ -0,0 +1,71 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.dto.MemberSuggestionDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suggest latency over 1M synthetic members. SampleTime mode reports p99/p99.9 directly;
+ * setup prints the packed segment size per million members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberNameIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"ar", "cha", "na", "ri", "dha", "pu", "jar", "bha", "va", "ku",
+            "lk", "ni", "che", "tan", "ra", "o", "me", "ena", "sh", "ek", "vi", "kr", "am", "deep"};
+
+    @Param({"1000000"})
+    public int members;
+
+    @Param({"a", "arch", "pujar", "ri pu"})
+    public String query;
+
+    private MemberNameIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<MemberSuggestionDTO> rows = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            rows.add(new MemberSuggestionDTO(UUID.randomUUID(), name(random), name(random)));
+        }
+        // No repository needed: the segment is built in memory
+        index = new MemberNameIndex(null, new SimpleMeterRegistry(), 10_000);
+        index.replaceAll(rows);
+
+        long bytes = index.sizeInBytes();
+        System.out.printf("%nname index: %d members, %.1f MB packed (%.1f MB per million, %.0f bytes per member)%n",
+                members, bytes / 1e6, bytes / 1e6 * 1_000_000 / members, (double) bytes / members);
+    }
+
+    @Benchmark
+    public List<MemberSuggestionDTO> suggest() {
+        return index.suggest(query, 10);
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        int parts = 2 + random.nextInt(3);
+        for (int i = 0; i < parts; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+}
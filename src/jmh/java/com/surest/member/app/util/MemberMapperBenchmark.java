@@ -0,0 +1,65 @@
+package com.surest.member.app.util;
+
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.entity.Member;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of MemberMapper vs the ModelMapper calls it replaced, for both directions.
+ * Bytes per mapping come from the gc profiler configured in build.gradle (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private Member member;
+    private MemberRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        // Same as the removed ModelMapperConfig bean, type maps created up front
+        modelMapper = new ModelMapper();
+        modelMapper.typeMap(Member.class, MemberResponseDTO.class);
+        modelMapper.typeMap(MemberRequestDTO.class, Member.class);
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        member = new Member(UUID.randomUUID(), "Archana", "Pujar", LocalDate.of(1995, 6, 7),
+                "archanapujar@gmail.com", now, now);
+        request = new MemberRequestDTO("Archana", "Pujar", "archanapujar@gmail.com", LocalDate.of(1995, 6, 7));
+    }
+
+    @Benchmark
+    public MemberResponseDTO modelMapperToResponse() {
+        return modelMapper.map(member, MemberResponseDTO.class);
+    }
+
+    @Benchmark
+    public MemberResponseDTO memberMapperToResponse() {
+        return MemberMapper.toResponse(member);
+    }
+
+    @Benchmark
+    public Member modelMapperToEntity() {
+        return modelMapper.map(request, Member.class);
+    }
+
+    @Benchmark
+    public Member memberMapperToEntity() {
+        return MemberMapper.toEntity(request);
+    }
+}
@@ -0,0 +1,383 @@
+package com.surest.member.app.auth;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fast path for the compact HMAC-SHA tokens produced by {@link JwtUtil#generateToken}.
+ * <p>
+ * The signature is checked with per-thread {@link Mac} instances and scratch buffers, and only
+ * {@code jti}, {@code sub}, {@code exp} and {@code roles} are read straight from the payload bytes.
+ * Anything outside that shape (other headers, unknown claims, escaped strings, bad signature,
+ * expired token) returns {@code null} so the caller falls back to jjwt, which produces the
+ * proper exception.
+ */
+final class FastJwtVerifier {
+
+    private static final Algorithm[] ALGORITHMS = {
+            Algorithm.of("HS256", "HmacSHA256", 32),
+            Algorithm.of("HS384", "HmacSHA384", 48),
+            Algorithm.of("HS512", "HmacSHA512", 64)
+    };
+
+    private static final byte[] JTI = "jti".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUB = "sub".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP = "exp".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IAT = "iat".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ROLES = "roles".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int[] BASE64URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final byte[] keyBytes;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    FastJwtVerifier(SecretKey key) {
+        this.keyBytes = key.getEncoded();
+    }
+
+    JwtPrincipal verify(String token) {
+        int length = token.length();
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        int algorithmIndex = algorithmIndex(token, firstDot);
+        if (algorithmIndex < 0) {
+            return null;
+        }
+        Algorithm algorithm = ALGORITHMS[algorithmIndex];
+
+        Scratch s = scratch.get();
+        byte[] ascii = s.ascii(length);
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) {
+                return null;
+            }
+            ascii[i] = (byte) c;
+        }
+
+        // Signature over "header.payload"
+        Mac mac = s.mac(algorithmIndex, algorithm, keyBytes);
+        if (mac == null) {
+            return null;
+        }
+        mac.update(ascii, 0, secondDot);
+        try {
+            mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            return null;
+        }
+        int signatureLength = decode(ascii, secondDot + 1, length, s.signature);
+        if (signatureLength != algorithm.macLength()
+                || !constantTimeEquals(s.expected, s.signature, signatureLength)) {
+            return null;
+        }
+
+        byte[] payload = s.payload((secondDot - firstDot) * 3 / 4 + 3);
+        int payloadLength = decode(ascii, firstDot + 1, secondDot, payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+
+        PayloadReader reader = new PayloadReader(payload, payloadLength);
+        if (!reader.read() || reader.subject == null || reader.expSeconds < 0) {
+            return null;
+        }
+        if (System.currentTimeMillis() > reader.expSeconds * 1000L) {
+            return null;
+        }
+        return new JwtPrincipal(reader.subject, reader.roles, Instant.ofEpochSecond(reader.expSeconds), reader.tokenId);
+    }
+
+    private static int algorithmIndex(String token, int headerLength) {
+        for (int i = 0; i < ALGORITHMS.length; i++) {
+            String header = ALGORITHMS[i].encodedHeader();
+            if (header.length() == headerLength && token.regionMatches(0, header, 0, headerLength)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Unpadded base64url decode of src[from, to) into dst; returns decoded length or -1
+    private static int decode(byte[] src, int from, int to, byte[] dst) {
+        int length = to - from;
+        if (length % 4 == 1 || (length * 6) / 8 > dst.length) {
+            return -1;
+        }
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            int b = src[i];
+            int v = b < 0 ? -1 : BASE64URL[b];
+            if (v < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | v;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        return out;
+    }
+
+    private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+        int diff = 0;
+        for (int i = 0; i < length; i++) {
+            diff |= a[i] ^ b[i];
+        }
+        return diff == 0;
+    }
+
+    // encodedHeader is the exact base64url header jjwt writes for this algorithm
+    private record Algorithm(String jcaName, int macLength, String encodedHeader) {
+        static Algorithm of(String name, String jcaName, int macLength) {
+            String header = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(("{\"alg\":\"" + name + "\"}").getBytes(StandardCharsets.US_ASCII));
+            return new Algorithm(jcaName, macLength, header);
+        }
+    }
+
+    /**
+     * Per-thread buffers and Mac instances, grown on demand and reused across calls.
+     */
+    private static final class Scratch {
+        private final Mac[] macs = new Mac[ALGORITHMS.length];
+        private final byte[] expected = new byte[64];
+        private final byte[] signature = new byte[96];
+        private byte[] ascii = new byte[512];
+        private byte[] payload = new byte[384];
+
+        byte[] ascii(int length) {
+            if (ascii.length < length) {
+                ascii = new byte[length];
+            }
+            return ascii;
+        }
+
+        byte[] payload(int length) {
+            if (payload.length < length) {
+                payload = new byte[length];
+            }
+            return payload;
+        }
+
+        Mac mac(int index, Algorithm algorithm, byte[] keyBytes) {
+            Mac mac = macs[index];
+            if (mac == null) {
+                try {
+                    mac = Mac.getInstance(algorithm.jcaName());
+                    mac.init(new SecretKeySpec(keyBytes, algorithm.jcaName()));
+                } catch (GeneralSecurityException e) {
+                    return null;
+                }
+                macs[index] = mac;
+            }
+            return mac;
+        }
+    }
+
+    /**
+     * Minimal reader for the claim set written by JwtUtil: {"jti":..,"sub":..,"roles":[..],"iat":..,"exp":..}.
+     * Any other claim or JSON construct makes {@link #read()} return false.
+     */
+    private static final class PayloadReader {
+        private final byte[] buf;
+        private final int end;
+        private int pos;
+
+        private String tokenId;
+        private String subject;
+        private long expSeconds = -1;
+        private Set<String> roles = Set.of();
+
+        PayloadReader(byte[] buf, int end) {
+            this.buf = buf;
+            this.end = end;
+        }
+
+        boolean read() {
+            skipWhitespace();
+            if (!consume('{')) {
+                return false;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return true;
+            }
+            while (true) {
+                skipWhitespace();
+                if (!consume('"')) {
+                    return false;
+                }
+                int keyStart = pos;
+                int keyEnd = indexOfQuote();
+                if (keyEnd < 0) {
+                    return false;
+                }
+                pos = keyEnd + 1;
+                skipWhitespace();
+                if (!consume(':')) {
+                    return false;
+                }
+                skipWhitespace();
+
+                if (keyEquals(keyStart, keyEnd, JTI)) {
+                    tokenId = readString();
+                    if (tokenId == null) {
+                        return false;
+                    }
+                } else if (keyEquals(keyStart, keyEnd, SUB)) {
+                    subject = readString();
+                    if (subject == null) {
+                        return false;
+                    }
+                } else if (keyEquals(keyStart, keyEnd, EXP)) {
+                    expSeconds = readLong();
+                    if (expSeconds < 0) {
+                        return false;
+                    }
+                } else if (keyEquals(keyStart, keyEnd, IAT)) {
+                    if (readLong() < 0) {
+                        return false;
+                    }
+                } else if (keyEquals(keyStart, keyEnd, ROLES)) {
+                    roles = readStringArray();
+                    if (roles == null) {
+                        return false;
+                    }
+                } else {
+                    return false;
+                }
+
+                skipWhitespace();
+                if (consume('}')) {
+                    skipWhitespace();
+                    return pos == end;
+                }
+                if (!consume(',')) {
+                    return false;
+                }
+            }
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            int start = pos;
+            int close = indexOfQuote();
+            if (close < 0) {
+                return null;
+            }
+            pos = close + 1;
+            return new String(buf, start, close - start, StandardCharsets.UTF_8);
+        }
+
+        private Set<String> readStringArray() {
+            if (!consume('[')) {
+                return null;
+            }
+            skipWhitespace();
+            if (consume(']')) {
+                return Set.of();
+            }
+            List<String> values = new ArrayList<>(4);
+            while (true) {
+                skipWhitespace();
+                String value = readString();
+                if (value == null) {
+                    return null;
+                }
+                values.add(value);
+                skipWhitespace();
+                if (consume(']')) {
+                    return Set.copyOf(values);
+                }
+                if (!consume(',')) {
+                    return null;
+                }
+            }
+        }
+
+        // Non-negative integer; -1 for anything else (fractions, exponents, signs)
+        private long readLong() {
+            long value = 0;
+            int start = pos;
+            while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+                if (pos - start >= 18) {
+                    return -1;
+                }
+                value = value * 10 + (buf[pos++] - '0');
+            }
+            if (pos == start || (pos < end && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E'))) {
+                return -1;
+            }
+            return value;
+        }
+
+        // Position of the closing quote; -1 if missing or the string uses escapes
+        private int indexOfQuote() {
+            for (int i = pos; i < end; i++) {
+                byte b = buf[i];
+                if (b == '"') {
+                    return i;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private boolean keyEquals(int start, int stop, byte[] key) {
+            if (stop - start != key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (buf[start + i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean consume(char c) {
+            if (pos < end && buf[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < end && (buf[pos] == ' ' || buf[pos] == '\t' || buf[pos] == '\n' || buf[pos] == '\r')) {
+                pos++;
+            }
+        }
+    }
+}
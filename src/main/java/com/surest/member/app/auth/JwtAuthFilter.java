@@ -13,16 +13,16 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenRevocationService revocationService;
 
-    public JwtAuthFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthFilter(VerifiedTokenCache tokenCache, TokenRevocationService revocationService) {
+        this.tokenCache = tokenCache;
+        this.revocationService = revocationService;
     }
 
     @Override
@@ -36,14 +36,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             try {
-                String username = jwtUtil.getUsernameFromToken(token);
-                Set<String> roles = jwtUtil.getRoles(token);
-                List<SimpleGrantedAuthority> authorities = roles.stream()
+                // Single verification per token; repeat tokens are served from the cache
+                JwtPrincipal principal = tokenCache.verify(token);
+                // In-memory check, no DB hit on the common not-revoked path
+                if (revocationService.isRevoked(principal.tokenId())) {
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.getWriter().write("Token has been revoked");
+                    return;
+                }
+                List<SimpleGrantedAuthority> authorities = principal.roles().stream()
                         .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+                        .toList();
 
                 UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(username, null, authorities);
+                        new UsernamePasswordAuthenticationToken(principal.username(), null, authorities);
+                authToken.setDetails(principal);
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
 
@@ -0,0 +1,14 @@
+package com.surest.member.app.auth;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Immutable view of a verified JWT: subject, granted roles, expiry and token ID (jti, used for revocation).
+ */
+public record JwtPrincipal(String username, Set<String> roles, Instant expiresAt, String tokenId) {
+
+    public JwtPrincipal {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+}
@@ -1,7 +1,9 @@
 package com.surest.member.app.auth;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -9,6 +11,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -16,9 +19,18 @@ public class JwtUtil {
             "ThisIsASecretKeyForJwtSigningChangeItToSomethingSecure1234567890".getBytes()
     );
 
+    // Optional fast path for our own token shape (jwt.verifier=fast); null means jjwt only
+    private FastJwtVerifier fastVerifier;
+
+    @Value("${jwt.verifier:jjwt}")
+    void setVerifier(String verifier) {
+        this.fastVerifier = "fast".equalsIgnoreCase(verifier) ? new FastJwtVerifier(key) : null;
+    }
+
     // Generate token with username + roles
     public String generateToken(String username, List<String> roles) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .claim("roles", roles)
                 .setIssuedAt(new Date())
@@ -27,24 +39,41 @@ public class JwtUtil {
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
+    // Verify signature + expiry once and extract everything the filter needs
+    public JwtPrincipal verify(String token) {
+        if (fastVerifier != null) {
+            JwtPrincipal principal = fastVerifier.verify(token);
+            if (principal != null) {
+                return principal;
+            }
+            // Anything the fast path cannot handle is re-checked by jjwt
+        }
 
-    @SuppressWarnings("unchecked")
-    public Set<String> getRoles(String token) {
-        Object rolesObj = Jwts.parserBuilder()
+        Claims claims = Jwts.parserBuilder()
                 .setSigningKey(key)
                 .build()
                 .parseClaimsJws(token)
-                .getBody()
-                .get("roles");
+                .getBody();
+
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                claims.getSubject(),
+                toRoles(claims.get("roles")),
+                expiration != null ? expiration.toInstant() : null,
+                claims.getId()
+        );
+    }
 
-        if (rolesObj instanceof List<?>) {
-            List<?> rolesList = (List<?>) rolesObj;
+    public String getUsernameFromToken(String token) {
+        return verify(token).username();
+    }
+
+    public Set<String> getRoles(String token) {
+        return verify(token).roles();
+    }
+
+    private Set<String> toRoles(Object rolesObj) {
+        if (rolesObj instanceof List<?> rolesList) {
             // Ensure all elements are strings
             List<String> stringRoles = rolesList.stream()
                     .map(Object::toString)
@@ -54,7 +83,5 @@ public class JwtUtil {
 
         // If roles claim is missing or not a list, return empty set
         return Collections.emptySet();
-
     }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.surest.member.app.auth;
+
+import com.surest.member.app.entity.RevokedToken;
+import com.surest.member.app.repository.RevokedTokenRepository;
+import com.surest.member.app.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token IDs (jti), persisted in surest.revoked_token and mirrored in memory.
+ * <p>
+ * {@link #isRevoked} is called on every authenticated request: a Bloom filter answers the common
+ * "not revoked" case without touching the exact set, and nothing here ever queries the database.
+ * Revocations from other instances are picked up by a periodic sync, and expired revocations are
+ * purged in the background (the filter is rebuilt at that point to shed them).
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    // Overlap between syncs so rows committed slightly out of order are not missed
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository repository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    // jti -> token expiry
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository repository, MeterRegistry meterRegistry,
+                                  @Value("${auth.revocation.expected-revocations:100000}") int expectedRevocations,
+                                  @Value("${auth.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+
+        Gauge.builder("auth.revocation.tokens", revoked, Map::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void loadActiveRevocations() {
+        syncFromDatabase();
+        log.info("Loaded {} active token revocations", revoked.size());
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        Instant now = Instant.now();
+        repository.save(new RevokedToken(tokenId, Timestamp.from(expiresAt), Timestamp.from(now)));
+        remember(tokenId, expiresAt);
+    }
+
+    // Picks up revocations recorded by other instances
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval:PT30S}",
+            initialDelayString = "${auth.revocation.sync-interval:PT30S}")
+    public void syncFromDatabase() {
+        Instant syncStart = Instant.now();
+        Instant since = lastSync.equals(Instant.EPOCH) ? Instant.EPOCH : lastSync.minus(SYNC_OVERLAP);
+        for (RevokedToken token : repository.findByRevokedAtGreaterThanEqual(Timestamp.from(since))) {
+            Instant expiresAt = token.getExpiresAt().toInstant();
+            if (expiresAt.isAfter(syncStart)) {
+                remember(token.getTokenId(), expiresAt);
+            }
+        }
+        lastSync = syncStart;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval:PT1H}",
+            initialDelayString = "${auth.revocation.purge-interval:PT1H}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int deleted = repository.deleteExpired(Timestamp.from(now));
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        rebuildFilter();
+        log.info("Purged {} expired token revocations, {} still active", deleted, revoked.size());
+    }
+
+    synchronized void remember(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    private synchronized void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+}
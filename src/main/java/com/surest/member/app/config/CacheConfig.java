@@ -0,0 +1,125 @@
+package com.surest.member.app.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.util.MemberMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Caffeine backing for the Spring caches (@Cacheable etc.). Each cache name gets its own Caffeine spec
+ * from app.cache.specs.&lt;name&gt;; names without one use app.cache.default-spec. Size-bounded
+ * Caffeine caches admit and evict by W-TinyLFU, so one-off reads cannot flush the hot members.
+ * Stats are recorded (recordStats) and bound as cache.* metrics by the actuator, which tags every cache of
+ * this manager with cache and cache.manager; binding them here as well would register each meter twice.
+ * A spec with refreshAfterWrite reloads entries that are still being read in the background before
+ * they expire (readers keep getting the current value meanwhile); that needs a loader for the cache,
+ * see {@link #loaders}.
+ * <p>
+ * With spring.threads.virtual.enabled the configured caches are built as async caches whose loads run on
+ * a virtual thread of their own: a synchronous Caffeine load (@Cacheable(sync = true)) runs the JDBC call
+ * inside a ConcurrentHashMap bin lock, which pins the calling virtual thread's carrier on Java 21.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String MEMBERS = "members";
+
+    private static final Bindable<Map<String, String>> SPECS = Bindable.mapOf(String.class, String.class);
+
+    @Bean
+    public CacheManager cacheManager(Environment environment, MemberRepository memberRepository,
+                                     @Value("${app.cache.default-spec:maximumSize=10000,expireAfterWrite=10m,recordStats}")
+                                     String defaultSpec,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // A miss must reach the loader every time (e.g. 404s), never be served as a cached null
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeineSpec(CaffeineSpec.parse(defaultSpec));
+
+        Map<String, String> specs = Binder.get(environment).bind("app.cache.specs", SPECS).orElse(Map.of());
+        Map<String, CacheLoader<Object, Object>> loaders = loaders(memberRepository);
+        specs.forEach((name, spec) -> {
+            if (virtualThreads) {
+                cacheManager.registerCustomCache(name, buildAsync(name, CaffeineSpec.parse(spec), loaders.get(name)));
+            } else {
+                cacheManager.registerCustomCache(name, build(name, CaffeineSpec.parse(spec), loaders.get(name)));
+            }
+        });
+        return cacheManager;
+    }
+
+    /**
+     * Loaders used for refresh-ahead, by cache name. A loader returning null drops the entry
+     * (e.g. the member was deleted elsewhere).
+     */
+    static Map<String, CacheLoader<Object, Object>> loaders(MemberRepository memberRepository) {
+        return Map.of(MEMBERS, id -> memberRepository.findById((UUID) id)
+                .map(MemberMapper::toResponse)
+                .orElse(null));
+    }
+
+    static Cache<Object, Object> build(String name, CaffeineSpec spec, CacheLoader<Object, Object> loader) {
+        Caffeine<Object, Object> builder = builder(spec);
+        if (!refreshes(name, spec, loader)) {
+            return builder.build();
+        }
+        return builder.build(loader);
+    }
+
+    // Loads (and refreshes) run on a new virtual thread each; callers wait on the future, which unmounts them
+    static AsyncCache<Object, Object> buildAsync(String name, CaffeineSpec spec, CacheLoader<Object, Object> loader) {
+        Caffeine<Object, Object> builder = builder(spec)
+                .executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cache-load-" + name + "-", 0).factory()));
+        if (!refreshes(name, spec, loader)) {
+            return builder.buildAsync();
+        }
+        return builder.buildAsync(loader);
+    }
+
+    private static Caffeine<Object, Object> builder(CaffeineSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec);
+        if (spec.toParsableString().contains("maximumWeight")) {
+            builder.weigher(CacheConfig::weigh);
+        }
+        return builder;
+    }
+
+    private static boolean refreshes(String name, CaffeineSpec spec, CacheLoader<Object, Object> loader) {
+        if (!spec.toParsableString().contains("refreshAfterWrite")) {
+            return false;
+        }
+        if (loader == null) {
+            throw new IllegalStateException("Cache '" + name + "' uses refreshAfterWrite but has no loader");
+        }
+        return true;
+    }
+
+    // Approximate retained bytes, for caches bounded by maximumWeight instead of maximumSize
+    static int weigh(Object key, Object value) {
+        if (value instanceof MemberResponseDTO member) {
+            // object headers + UUID + LocalDate, plus two bytes per char of each name/email
+            return 128 + 2 * (length(member.getFirstName()) + length(member.getLastName()) + length(member.getEmail()));
+        }
+        return 64;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -1,8 +1,11 @@
 package com.surest.member.app.config;
 
 import com.surest.member.app.auth.JwtAuthFilter;
+import com.surest.member.app.auth.TimedPasswordEncoder;
 import com.surest.member.app.exception.CustomAccessDeniedHandler;
 import com.surest.member.app.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -41,16 +44,16 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
-    public AuthenticationManager authManager(HttpSecurity http) throws Exception {
+    public AuthenticationManager authManager(HttpSecurity http, PasswordEncoder passwordEncoder) throws Exception {
         AuthenticationManagerBuilder authBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
         authBuilder
                 .userDetailsService(userDetailsService)
-                .passwordEncoder(passwordEncoder());
+                .passwordEncoder(passwordEncoder);
         return authBuilder.build();
     }
 
@@ -61,15 +64,24 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
 
+                        // Completion dispatch of an already authorized streaming response (GET /api/v1/members/export)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers("/auth/login", "/auth/register").permitAll()
+                        .requestMatchers("/auth/register/batch").hasRole(ADMIN)
+
+                        // Health is public, the rest of actuator (metrics, cache stats) is ADMIN only
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole(ADMIN)
 
 
                         // Allow GET for USER and ADMIN
                         .requestMatchers(HttpMethod.GET, BASE_URL).hasAnyRole(USER, ADMIN)
 
-                        // Allow POST, PUT, DELETE only for ADMIN
+                        // Allow POST, PUT, PATCH, DELETE only for ADMIN
                         .requestMatchers(HttpMethod.POST, BASE_URL).hasRole(ADMIN)
                         .requestMatchers(HttpMethod.PUT, BASE_URL).hasRole(ADMIN)
+                        .requestMatchers(HttpMethod.PATCH, BASE_URL).hasRole(ADMIN)
                         .requestMatchers(HttpMethod.DELETE, BASE_URL).hasRole(ADMIN)
 
                         // Any other requests should be authenticated
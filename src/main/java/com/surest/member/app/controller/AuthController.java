@@ -1,19 +1,25 @@
 package com.surest.member.app.controller;
 
+import com.surest.member.app.auth.JwtPrincipal;
 import com.surest.member.app.auth.JwtUtil;
+import com.surest.member.app.auth.LoginExecutor;
+import com.surest.member.app.auth.TokenRevocationService;
 import com.surest.member.app.dto.LoginRequestDTO;
 import com.surest.member.app.dto.LoginResponseDTO;
 import com.surest.member.app.dto.RegisterRequestDTO;
+import com.surest.member.app.dto.RegistrationResultDTO;
 import com.surest.member.app.entity.Role;
 import com.surest.member.app.entity.User;
 import com.surest.member.app.repository.RoleRepository;
 import com.surest.member.app.repository.UserRepository;
 import com.surest.member.app.service.CustomUserDetailsService;
+import com.surest.member.app.service.UserRegistrationService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -35,16 +41,24 @@ public class AuthController {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LoginExecutor loginExecutor;
+    private final UserRegistrationService userRegistrationService;
+    private final TokenRevocationService revocationService;
 
 
     public AuthController(AuthenticationManager authenticationManager, JwtUtil jwtUtil,
-                          CustomUserDetailsService userDetailsService, UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+                          CustomUserDetailsService userDetailsService, UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder,
+                          LoginExecutor loginExecutor, UserRegistrationService userRegistrationService,
+                          TokenRevocationService revocationService) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.loginExecutor = loginExecutor;
+        this.userRegistrationService = userRegistrationService;
+        this.revocationService = revocationService;
 
 
     }
@@ -54,23 +68,21 @@ public class AuthController {
     public ResponseEntity<Object> login(@RequestBody LoginRequestDTO request) {
 
         try {
-            authenticationManager.authenticate(
+            // User lookup + BCrypt check run on the bounded login pool (503 when saturated)
+            Authentication authentication = loginExecutor.submit(() -> authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getUsername(),
                             request.getPassword()
                     )
-            );
+            ));
 
-            // Load user details (includes roles)
-            UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
-
-            // Extract roles
-            List<String> roles = userDetails.getAuthorities().stream()
-                    .map(auth -> auth.getAuthority())
+            // Roles come from the authenticated principal, no second user lookup
+            List<String> roles = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
                     .toList();
 
             // Generate JWT with username + roles
-            String token = jwtUtil.generateToken(userDetails.getUsername(), roles);
+            String token = jwtUtil.generateToken(authentication.getName(), roles);
 
             return ResponseEntity.ok(new LoginResponseDTO(token));
         } catch (AuthenticationException e) {
@@ -83,6 +95,22 @@ public class AuthController {
 
     }
 
+    // Revokes the bearer token used for this request until it expires
+    @PostMapping("/logout")
+    public ResponseEntity<Object> logout(Authentication authentication) {
+        if (authentication == null || !(authentication.getDetails() instanceof JwtPrincipal principal)) {
+            return ResponseEntity.status(401)
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body("Missing bearer token");
+        }
+        if (principal.tokenId() == null || principal.expiresAt() == null) {
+            return ResponseEntity.badRequest().body("Token cannot be revoked");
+        }
+
+        revocationService.revoke(principal.tokenId(), principal.expiresAt());
+        return ResponseEntity.ok("Logged out successfully");
+    }
+
     @PostMapping("/register")
     public ResponseEntity<Object> register(@RequestBody RegisterRequestDTO request) {
         try {
@@ -101,6 +129,7 @@ public class AuthController {
             newUser.setRole(role);
 
             userRepository.save(newUser);
+            userDetailsService.evict(newUser.getUsername());
 
             return ResponseEntity.ok("User registered successfully");
         } catch (RuntimeException e) {
@@ -109,4 +138,10 @@ public class AuthController {
 
         }
     }
+
+    // Accessible only by ADMIN; returns one result per submitted user, in order
+    @PostMapping("/register/batch")
+    public ResponseEntity<List<RegistrationResultDTO>> registerBatch(@RequestBody List<RegisterRequestDTO> requests) {
+        return ResponseEntity.ok(userRegistrationService.registerBatch(requests));
+    }
 }
\ No newline at end of file
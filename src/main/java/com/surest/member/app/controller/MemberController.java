@@ -1,17 +1,34 @@
 package com.surest.member.app.controller;
 
+import com.surest.member.app.dto.CursorPageDTO;
+import com.surest.member.app.dto.MemberBulkDeleteDTO;
+import com.surest.member.app.dto.MemberBulkResultDTO;
+import com.surest.member.app.dto.MemberPatchDTO;
 import com.surest.member.app.dto.MemberRequestDTO;
 import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.dto.MemberSuggestionDTO;
+import com.surest.member.app.service.CountMode;
+import com.surest.member.app.service.MemberBulkService;
+import com.surest.member.app.service.MemberExportService;
+import com.surest.member.app.service.MemberFileFormat;
+import com.surest.member.app.service.MemberNameIndex;
 import com.surest.member.app.service.MemberService;
+import com.surest.member.app.service.MemberUpsertResult;
+import com.surest.member.app.util.MemberETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,6 +39,9 @@ import java.util.UUID;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberNameIndex memberNameIndex;
+    private final MemberBulkService memberBulkService;
+    private final MemberExportService memberExportService;
 
 
     // Accessible only by ADMIN
@@ -33,6 +53,13 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Accessible only by ADMIN; per-item results, one set-based duplicate check, chunked batch inserts
+    @PostMapping("/bulk")
+    public ResponseEntity<List<MemberBulkResultDTO>> createMembersBulk(@RequestBody List<MemberRequestDTO> requests) {
+        log.info("Received bulk create request for {} members", requests == null ? 0 : requests.size());
+        return ResponseEntity.ok(memberBulkService.createMembers(requests));
+    }
+
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> getMembers(
@@ -40,24 +67,93 @@ public class MemberController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id,asc") String sort,
             @RequestParam(required = false) String firstName,
-            @RequestParam(required = false) String lastName
+            @RequestParam(required = false) String lastName,
+            @RequestParam(defaultValue = "exact") String count
     ) {
-        // Service returns Page<MemberResponseDTO>
-        Page<MemberResponseDTO> pageResult = memberService.getAllMembers(page, size, sort, firstName, lastName);
+        CountMode countMode = CountMode.fromParam(count);
+        // Page<MemberResponseDTO>, or a Slice when count=none
+        Slice<MemberResponseDTO> pageResult = memberService.getMembers(page, size, sort, firstName, lastName, countMode);
 
         // Convert Page into Map<String, Object>
         Map<String, Object> response = new HashMap<>();
         response.put("content", pageResult.getContent());
-        response.put("totalElements", pageResult.getTotalElements());
-        response.put("totalPages", pageResult.getTotalPages());
+        String etag;
+        if (pageResult instanceof Page<MemberResponseDTO> counted) {
+            response.put("totalElements", counted.getTotalElements());
+            response.put("totalPages", counted.getTotalPages());
+            response.put("totalEstimated", countMode == CountMode.ESTIMATED);
+            etag = MemberETags.ofPage(counted.getContent(), counted.getNumber(), counted.getSize(),
+                    counted.getTotalElements(), countMode);
+        } else {
+            response.put("hasNext", pageResult.hasNext());
+            etag = MemberETags.ofPage(pageResult.getContent(), pageResult.getNumber(), pageResult.getSize(),
+                    pageResult.hasNext());
+        }
         response.put("pageNumber", pageResult.getNumber());
         response.put("pageSize", pageResult.getSize());
 
-        return ResponseEntity.ok(response);
+        return withETag(etag, response);
+    }
+
+    // Opt-in keyset pagination: pass cursor= (empty) for the first page, then the returned nextCursor
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Map<String, Object>> getMembersByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id,asc") String sort,
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName
+    ) {
+        CursorPageDTO<MemberResponseDTO> result = memberService.getMembersAfter(cursor, size, sort, firstName, lastName);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", result.getContent());
+        response.put("nextCursor", result.getNextCursor());
+        response.put("hasNext", result.getNextCursor() != null);
+        response.put("pageSize", size);
+
+        return withETag(MemberETags.ofPage(result.getContent(), result.getNextCursor(), size), response);
+    }
+
+    // Typeahead: served from the in-memory name index, never hits the database
+    @GetMapping("/suggest")
+    public List<MemberSuggestionDTO> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return memberNameIndex.suggest(q, limit);
+    }
+
+    // Whole-table export for analytics: streamed from a server-side cursor as NDJSON (default) or CSV,
+    // optionally gzip-compressed; same name filters as GET /api/v1/members
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        MemberFileFormat exportFormat = MemberFileFormat.fromParam(format);
+        log.info("Received member export request ({}, gzip={})", exportFormat, gzip);
+        StreamingResponseBody body = out -> memberExportService.export(exportFormat, firstName, lastName, gzip, out);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("members." + exportFormat.fileExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
+
+    // Conditional GET: a matching If-None-Match gets a 304 without the body being serialized
     @GetMapping("/{id}")
-    public MemberResponseDTO getMemberById(@PathVariable UUID id) {
-        return memberService.getMemberById(id);
+    public ResponseEntity<MemberResponseDTO> getMemberById(@PathVariable UUID id) {
+        MemberResponseDTO member = memberService.getMemberById(id);
+        return withETag(MemberETags.of(member), member);
     }
 
     @DeleteMapping("/{id}")
@@ -68,15 +164,68 @@ public class MemberController {
         return ResponseEntity.ok(response);
     }
 
+    // Bulk soft delete by {"ids": [...]} or by {"firstName": ..., "lastName": ...} (same matching as the list filters).
+    // A filter deletes at most members.bulk.max-size per call: repeat while "deleted" equals that limit
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> deleteMembers(@RequestBody MemberBulkDeleteDTO request) {
+        int deleted = memberBulkService.deleteMembers(request);
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Members deleted successfully");
+        response.put("deleted", deleted);
+        return ResponseEntity.ok(response);
+    }
+
+    // If-Match (optional): a stale ETag is rejected with 412 before anything is written
     @PutMapping("/{id}")
     public ResponseEntity<MemberResponseDTO> updateMember(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody MemberRequestDTO request) {
 
+        if (ifMatch != null) {
+            memberService.checkVersion(id, ifMatch);
+        }
         MemberResponseDTO updatedMember = memberService.updateMember(id, request);
-        return ResponseEntity.ok(updatedMember);
+        return withETag(MemberETags.of(updatedMember), updatedMember);
+    }
+
+    // Create-or-update keyed by email, one INSERT ... ON CONFLICT statement: 201 when created, 200 otherwise
+    @PutMapping("/by-email/{email}")
+    public ResponseEntity<MemberResponseDTO> upsertMemberByEmail(
+            @PathVariable String email,
+            @Valid @RequestBody MemberRequestDTO request) {
+
+        MemberUpsertResult result = memberService.upsertMemberByEmail(email, request);
+        return withETag(result.created() ? HttpStatus.CREATED : HttpStatus.OK, MemberETags.of(result.member()), result.member());
     }
 
+    // Partial update: only the fields present in the body change, as one UPDATE ... RETURNING statement;
+    // a patch that changes nothing writes nothing. If-Match as for PUT
+    @PatchMapping("/{id}")
+    public ResponseEntity<MemberResponseDTO> patchMember(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody MemberPatchDTO patch) {
+
+        if (ifMatch != null) {
+            memberService.checkVersion(id, ifMatch);
+        }
+        MemberResponseDTO patchedMember = memberService.patchMember(id, patch);
+        return withETag(MemberETags.of(patchedMember), patchedMember);
+    }
+
+    // Spring MVC answers GET/HEAD with 304 itself when the returned ETag matches If-None-Match
+    private static <T> ResponseEntity<T> withETag(String etag, T body) {
+        return withETag(HttpStatus.OK, etag, body);
+    }
+
+    private static <T> ResponseEntity<T> withETag(HttpStatus status, String etag, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(body);
+    }
 
 }
 
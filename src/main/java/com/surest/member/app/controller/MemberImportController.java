@@ -0,0 +1,48 @@
+package com.surest.member.app.controller;
+
+import com.surest.member.app.dto.MemberImportStatusDTO;
+import com.surest.member.app.entity.MemberImportJob;
+import com.surest.member.app.service.MemberFileFormat;
+import com.surest.member.app.service.MemberImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/members/imports")
+@Slf4j
+@RequiredArgsConstructor
+public class MemberImportController {
+
+    private final MemberImportService memberImportService;
+
+    // Accessible only by ADMIN. The body (text/csv or application/x-ndjson) is streamed, never buffered.
+    // jobId is optional: pick a new one to poll progress meanwhile, or pass a FAILED job's id and
+    // re-send the same file to resume after its last checkpoint
+    @PostMapping(consumes = {MemberFileFormat.CSV_VALUE, MemberFileFormat.NDJSON_VALUE})
+    public ResponseEntity<MemberImportStatusDTO> importMembers(
+            @RequestParam(required = false) UUID jobId,
+            HttpServletRequest request
+    ) throws IOException {
+        MemberFileFormat format = MemberFileFormat.fromContentType(request.getContentType());
+        log.info("Received member import ({}), resuming job: {}", format, jobId);
+        MemberImportStatusDTO status = memberImportService.importMembers(jobId, format, request.getInputStream());
+
+        HttpStatus httpStatus = status.getStatus() == MemberImportJob.Status.FAILED
+                ? HttpStatus.INTERNAL_SERVER_ERROR
+                : HttpStatus.OK;
+        return ResponseEntity.status(httpStatus).body(status);
+    }
+
+    // Progress, throughput and the first rejected records; poll while an import is running
+    @GetMapping("/{jobId}")
+    public MemberImportStatusDTO getImportStatus(@PathVariable UUID jobId) {
+        return memberImportService.getStatus(jobId);
+    }
+}
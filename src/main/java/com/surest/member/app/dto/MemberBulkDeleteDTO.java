@@ -0,0 +1,34 @@
+package com.surest.member.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DELETE /api/v1/members body: either the ids to delete, or a name filter with the same
+ * case-insensitive substring semantics as GET /api/v1/members?firstName=&lastName=.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberBulkDeleteDTO {
+    private List<UUID> ids;
+
+    private String firstName;
+
+    private String lastName;
+
+    @JsonIgnore
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    @JsonIgnore
+    public boolean hasFilter() {
+        return (firstName != null && !firstName.isBlank()) || (lastName != null && !lastName.isBlank());
+    }
+}
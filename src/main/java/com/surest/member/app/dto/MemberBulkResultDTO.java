@@ -0,0 +1,21 @@
+package com.surest.member.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberBulkResultDTO {
+
+    public enum Status { CREATED, DUPLICATE, INVALID, FAILED }
+
+    private int index;      // position in the request list
+    private String email;
+    private UUID id;        // set when CREATED
+    private Status status;
+    private String message;
+}
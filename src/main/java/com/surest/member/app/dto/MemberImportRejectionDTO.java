@@ -0,0 +1,13 @@
+package com.surest.member.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportRejectionDTO {
+    private long recordNumber;  // 1-based, header excluded
+    private String reason;
+}
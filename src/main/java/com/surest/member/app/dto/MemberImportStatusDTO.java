@@ -0,0 +1,29 @@
+package com.surest.member.app.dto;
+
+import com.surest.member.app.entity.MemberImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportStatusDTO {
+    private UUID jobId;
+    private String format;
+    private MemberImportJob.Status status;
+    private long recordsCommitted;
+    private long rowsInserted;
+    private long rowsRejected;
+    private double recordsPerSecond;
+    private Instant startedAt;
+    private Instant updatedAt;
+    private Instant finishedAt;
+    private String error;
+    private List<MemberImportRejectionDTO> rejections;  // first rejected records, see rejectionsTruncated
+    private boolean rejectionsTruncated;
+}
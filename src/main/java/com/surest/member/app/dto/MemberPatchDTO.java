@@ -0,0 +1,37 @@
+package com.surest.member.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * PATCH body: every field is optional and a missing (or null) field is left unchanged.
+ * The columns are NOT NULL, so a field cannot be cleared.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberPatchDTO {
+    @Pattern(regexp = ".*\\S.*", message = "First name must not be blank")
+    private String firstName;
+
+    @Pattern(regexp = ".*\\S.*", message = "Last name must not be blank")
+    private String lastName;
+
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate dateOfBirth;
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return firstName == null && lastName == null && email == null && dateOfBirth == null;
+    }
+}
@@ -1,9 +1,12 @@
 package com.surest.member.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -17,5 +20,12 @@ public class MemberResponseDTO {
     private String email;
     private LocalDate dateOfBirth;  // Or LocalDate if you prefer
 
+    // Row version for ETags (see MemberETags); not part of the JSON body or of equality
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Timestamp updatedAt;
 
+    public MemberResponseDTO(UUID id, String firstName, String lastName, String email, LocalDate dateOfBirth) {
+        this(id, firstName, lastName, email, dateOfBirth, null);
+    }
 }
@@ -0,0 +1,16 @@
+package com.surest.member.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberSuggestionDTO {
+    private UUID id;
+    private String firstName;
+    private String lastName;
+}
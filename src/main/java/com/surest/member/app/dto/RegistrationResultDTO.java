@@ -0,0 +1,17 @@
+package com.surest.member.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegistrationResultDTO {
+
+    public enum Status { CREATED, DUPLICATE, INVALID }
+
+    private String username;
+    private Status status;
+    private String message;
+}
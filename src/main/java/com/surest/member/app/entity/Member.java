@@ -5,15 +5,22 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.UUID;
 
-
+/**
+ * Live members only: soft-deleted rows (deleted_at set, see V4 migration) are filtered out of every
+ * JPA read, and a JPA remove only marks the row. deleted_at itself is written by SQL, never mapped.
+ */
 @Entity
 @Table(name = "member", schema = "surest")
+@SQLRestriction("deleted_at IS NULL")
+@SQLDelete(sql = "UPDATE surest.member SET deleted_at = now(), updated_at = now() WHERE id = ?")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,7 +40,7 @@ public class Member {
     @Column(name = "date_of_birth", nullable = false)
     private LocalDate dateOfBirth;
 
-    @Column(name = "email", nullable = false, unique = true, length = 255)
+    @Column(name = "email", nullable = false, length = 255)
     private String email;
 
     @CreationTimestamp
@@ -0,0 +1,28 @@
+package com.surest.member.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+@Entity
+@Table(name = "revoked_token", schema = "surest")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    // jti claim of the revoked JWT
+    @Id
+    @Column(name = "token_id", nullable = false, updatable = false, length = 64)
+    private String tokenId;
+
+    // Expiry of the token itself; the row can be purged after this
+    @Column(name = "expires_at", nullable = false)
+    private Timestamp expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Timestamp revokedAt;
+}
@@ -0,0 +1,8 @@
+package com.surest.member.app.exception;
+
+public class DuplicateResourceException extends RuntimeException {
+
+    public DuplicateResourceException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,94 @@
+package com.surest.member.app.repository;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.util.LikePatterns;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Member removal as set-based SQL. Deletes only mark rows (deleted_at, see V4 migration) with one
+ * UPDATE ... RETURNING per call, so nothing is loaded first; tombstones are removed later by
+ * {@link #purge}, a bounded batch at a time. Every method is a single autocommit statement, so row
+ * locks and WAL per transaction stay bounded by the batch size the caller passes.
+ */
+@Repository
+public class MemberDeletionRepository {
+
+    private static final String COLUMNS = "id, first_name, last_name, email, date_of_birth, updated_at";
+    private static final String MARK_DELETED = "UPDATE surest.member SET deleted_at = now(), updated_at = now()";
+
+    private static final RowMapper<MemberResponseDTO> MEMBER = (rs, rowNum) -> new MemberResponseDTO(
+            rs.getObject("id", UUID.class), rs.getString("first_name"), rs.getString("last_name"),
+            rs.getString("email"), rs.getDate("date_of_birth").toLocalDate(), rs.getTimestamp("updated_at"));
+
+    private static final RowMapper<UUID> ID = (rs, rowNum) -> rs.getObject("id", UUID.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberDeletionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Marks one live member deleted; returns the member as it was, or empty when there is no live member.
+     */
+    public Optional<MemberResponseDTO> softDelete(UUID id) {
+        List<MemberResponseDTO> rows = jdbcTemplate.query(
+                MARK_DELETED + " WHERE id = ? AND deleted_at IS NULL RETURNING " + COLUMNS, MEMBER, id);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Marks the live members among the given ids; returns the ids that were marked. Unknown and
+     * already deleted ids are skipped.
+     */
+    public List<UUID> softDeleteAll(Collection<UUID> ids) {
+        return jdbcTemplate.query(MARK_DELETED + " WHERE id = ANY (?) AND deleted_at IS NULL RETURNING id",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray(new UUID[0]))),
+                ID);
+    }
+
+    /**
+     * Marks up to limit live members matching the name filters, with the same case-insensitive
+     * substring semantics as the list search (so the trigram indexes apply); returns the marked ids.
+     * Callers repeat until fewer than limit come back.
+     */
+    public List<UUID> softDeleteMatching(String firstName, String lastName, int limit) {
+        StringBuilder filter = new StringBuilder("deleted_at IS NULL");
+        List<Object> args = new ArrayList<>();
+        if (firstName != null && !firstName.isBlank()) {
+            filter.append(" AND lower(first_name) LIKE ? ESCAPE '\\'");
+            args.add(LikePatterns.containsIgnoreCase(firstName));
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            filter.append(" AND lower(last_name) LIKE ? ESCAPE '\\'");
+            args.add(LikePatterns.containsIgnoreCase(lastName));
+        }
+        args.add(limit);
+
+        // deleted_at is re-checked on the outer UPDATE, so a row marked concurrently is not counted twice
+        String sql = MARK_DELETED + " WHERE deleted_at IS NULL AND id IN ("
+                + "SELECT id FROM surest.member WHERE " + filter + " LIMIT ?) RETURNING id";
+        return jdbcTemplate.query(sql, ID, args.toArray());
+    }
+
+    /**
+     * Physically deletes up to limit members soft-deleted more than retention ago, oldest first; returns
+     * the rows removed. SKIP LOCKED lets purgers on several nodes share the backlog without waiting on
+     * each other.
+     */
+    public int purge(Duration retention, int limit) {
+        return jdbcTemplate.update("DELETE FROM surest.member WHERE id IN ("
+                        + "SELECT id FROM surest.member WHERE deleted_at < now() - ? * interval '1 second'"
+                        + " ORDER BY deleted_at LIMIT ? FOR UPDATE SKIP LOCKED)",
+                (double) retention.toSeconds(), limit);
+    }
+}
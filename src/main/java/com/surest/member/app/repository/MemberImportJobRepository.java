@@ -0,0 +1,11 @@
+package com.surest.member.app.repository;
+
+import com.surest.member.app.entity.MemberImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface MemberImportJobRepository extends JpaRepository<MemberImportJob, UUID> {
+}
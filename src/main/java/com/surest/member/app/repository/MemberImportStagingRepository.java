@@ -0,0 +1,131 @@
+package com.surest.member.app.repository;
+
+import com.surest.member.app.dto.MemberImportRejectionDTO;
+import com.surest.member.app.dto.MemberRequestDTO;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC side of member imports: COPY into the unlogged staging table, set-based merge into
+ * surest.member and the rejected-record report. Callers run these inside one transaction per chunk.
+ */
+@Repository
+public class MemberImportStagingRepository {
+
+    private static final String COPY_SQL = "COPY surest.member_import_staging "
+            + "(id, job_id, record_number, first_name, last_name, date_of_birth, email) FROM STDIN WITH (FORMAT csv)";
+
+    // First occurrence of an email wins; staged rows that were not inserted are reported as duplicates.
+    // The conflict target is the live-email partial index, so removed members do not block their email
+    private static final String MERGE_SQL = """
+            WITH candidates AS (
+                SELECT DISTINCT ON (email) id, first_name, last_name, date_of_birth, email
+                FROM surest.member_import_staging
+                WHERE job_id = ?
+                ORDER BY email, record_number
+            ), inserted AS (
+                INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at)
+                SELECT id, first_name, last_name, date_of_birth, email, now(), now() FROM candidates
+                ON CONFLICT (email) WHERE deleted_at IS NULL DO NOTHING
+                RETURNING id
+            )
+            INSERT INTO surest.member_import_rejection (job_id, record_number, reason)
+            SELECT s.job_id, s.record_number, 'Email already exists'
+            FROM surest.member_import_staging s
+            WHERE s.job_id = ? AND NOT EXISTS (SELECT 1 FROM inserted i WHERE i.id = s.id)
+            """;
+
+    /** A validated record ready for COPY. */
+    public record StagedMember(UUID id, long recordNumber, MemberRequestDTO member) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberImportStagingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams the chunk to PostgreSQL over the COPY protocol; returns the number of rows copied.
+     */
+    public long copyIntoStaging(UUID jobId, List<StagedMember> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (StagedMember row : rows) {
+            MemberRequestDTO member = row.member();
+            csv.append(row.id()).append(',')
+                    .append(jobId).append(',')
+                    .append(row.recordNumber()).append(',');
+            appendCsv(csv, member.getFirstName()).append(',');
+            appendCsv(csv, member.getLastName()).append(',');
+            csv.append(member.getDateOfBirth()).append(',');
+            appendCsv(csv, member.getEmail()).append('\n');
+        }
+
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    /**
+     * Moves the job's staged rows into surest.member and empties the staging rows.
+     * Returns the number of staged rows rejected as duplicate emails.
+     */
+    public int mergeStaged(UUID jobId) {
+        int duplicates = jdbcTemplate.update(MERGE_SQL, jobId, jobId);
+        clearStaging(jobId);
+        return duplicates;
+    }
+
+    public void clearStaging(UUID jobId) {
+        jdbcTemplate.update("DELETE FROM surest.member_import_staging WHERE job_id = ?", jobId);
+    }
+
+    public void insertRejections(UUID jobId, List<MemberImportRejectionDTO> rejections) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO surest.member_import_rejection (job_id, record_number, reason) VALUES (?, ?, ?) "
+                        + "ON CONFLICT DO NOTHING",
+                rejections, 500, (ps, rejection) -> {
+                    ps.setObject(1, jobId);
+                    ps.setLong(2, rejection.getRecordNumber());
+                    ps.setString(3, truncate(rejection.getReason()));
+                });
+    }
+
+    public List<MemberImportRejectionDTO> findRejections(UUID jobId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT record_number, reason FROM surest.member_import_rejection WHERE job_id = ? "
+                        + "ORDER BY record_number LIMIT ?",
+                (rs, rowNum) -> new MemberImportRejectionDTO(rs.getLong("record_number"), rs.getString("reason")),
+                jobId, limit);
+    }
+
+    private static StringBuilder appendCsv(StringBuilder csv, String value) {
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+
+    private static String truncate(String reason) {
+        return reason.length() <= 1000 ? reason : reason.substring(0, 1000);
+    }
+}
@@ -0,0 +1,88 @@
+package com.surest.member.app.repository;
+
+import com.surest.member.app.dto.MemberPatchDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * PATCH as one statement: a data-modifying CTE updates only the supplied columns, and only when one of
+ * them actually differs, then returns the row either way. No prior SELECT, no entity merge, and a
+ * no-op patch writes nothing (no new row version, updated_at unchanged). Soft-deleted members
+ * are treated as missing.
+ */
+@Repository
+public class MemberPatchRepository {
+
+    private static final String COLUMNS = "id, first_name, last_name, email, date_of_birth, updated_at";
+
+    /** The member after the patch, and whether the row was written. */
+    public record Result(MemberResponseDTO member, boolean changed) {
+    }
+
+    private static final RowMapper<Result> RESULT = (rs, rowNum) -> new Result(
+            new MemberResponseDTO(rs.getObject("id", UUID.class), rs.getString("first_name"), rs.getString("last_name"),
+                    rs.getString("email"), rs.getDate("date_of_birth").toLocalDate(), rs.getTimestamp("updated_at")),
+            rs.getBoolean("changed"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberPatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Applies the non-null fields of the patch; empty when the member does not exist. A duplicate email
+     * surfaces as DuplicateKeyException (ux_member_email_live).
+     */
+    public Optional<Result> patch(UUID id, MemberPatchDTO patch) {
+        List<String> assignments = new ArrayList<>();
+        List<String> differences = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        column("first_name", patch.getFirstName(), assignments, differences, values);
+        column("last_name", patch.getLastName(), assignments, differences, values);
+        column("email", patch.getEmail(), assignments, differences, values);
+        column("date_of_birth", patch.getDateOfBirth() == null ? null : Date.valueOf(patch.getDateOfBirth()),
+                assignments, differences, values);
+
+        if (assignments.isEmpty()) {
+            List<Result> rows = jdbcTemplate.query(
+                    "SELECT " + COLUMNS + ", false AS changed FROM surest.member WHERE id = ? AND deleted_at IS NULL",
+                    RESULT, id);
+            return rows.stream().findFirst();
+        }
+
+        // The outer SELECT sees the pre-update snapshot, so it only contributes the row when nothing was updated
+        String sql = "WITH updated AS ("
+                + " UPDATE surest.member SET " + String.join(", ", assignments) + ", updated_at = now()"
+                + " WHERE id = ? AND deleted_at IS NULL AND (" + String.join(" OR ", differences) + ")"
+                + " RETURNING " + COLUMNS
+                + ") SELECT " + COLUMNS + ", true AS changed FROM updated"
+                + " UNION ALL"
+                + " SELECT " + COLUMNS + ", false AS changed FROM surest.member"
+                + " WHERE id = ? AND deleted_at IS NULL AND NOT EXISTS (SELECT 1 FROM updated)";
+
+        List<Object> args = new ArrayList<>(values);
+        args.add(id);
+        args.addAll(values);
+        args.add(id);
+        List<Result> rows = jdbcTemplate.query(sql, RESULT, args.toArray());
+        return rows.stream().findFirst();
+    }
+
+    private static void column(String name, Object value, List<String> assignments, List<String> differences,
+                               List<Object> values) {
+        if (value != null) {
+            assignments.add(name + " = ?");
+            differences.add(name + " IS DISTINCT FROM ?");
+            values.add(value);
+        }
+    }
+}
@@ -1,13 +1,35 @@
 package com.surest.member.app.repository;
 
+import com.surest.member.app.dto.MemberResponseDTO;
 import com.surest.member.app.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 @Repository
-public interface MemberRepository extends JpaRepository<Member, UUID>, JpaSpecificationExecutor<Member> {
+public interface MemberRepository extends JpaRepository<Member, UUID>, JpaSpecificationExecutor<Member>, MemberRepositoryCustom {
     boolean existsByEmail(String email);
 
+    // Set-based duplicate check for bulk create
+    @Query("select m.email from Member m where m.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Cache warm-up: newest edits first, response columns only
+    @Query("select new com.surest.member.app.dto.MemberResponseDTO(m.id, m.firstName, m.lastName, m.email, m.dateOfBirth, m.updatedAt) "
+            + "from Member m order by m.updatedAt desc")
+    List<MemberResponseDTO> findMostRecentlyUpdated(Pageable pageable);
+
+    // If-Match on PUT: the row version straight from the table, never from a cache
+    @Query("select m.updatedAt from Member m where m.id = :id")
+    Optional<Timestamp> findUpdatedAtById(@Param("id") UUID id);
+
 }
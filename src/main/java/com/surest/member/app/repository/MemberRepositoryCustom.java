@@ -0,0 +1,51 @@
+package com.surest.member.app.repository;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.dto.MemberSuggestionDTO;
+import com.surest.member.app.entity.Member;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface MemberRepositoryCustom {
+
+    /**
+     * Keyset page: rows strictly after (lastValue, lastId) in (sortField, id) order, no count query.
+     * Pass a null lastId for the first page. sortField must be a whitelisted Member attribute.
+     * Selects only the response columns straight into DTOs (no managed entities).
+     */
+    List<MemberResponseDTO> findPageAfter(String sortField, boolean ascending, Object lastValue, UUID lastId,
+                               String firstName, String lastName, int limit);
+
+    /**
+     * Page content only (offset/limit from the pageable, at most limit rows), without the COUNT(*)
+     * that findAll(spec, pageable) runs. A null spec matches every member.
+     * Selects only the response columns straight into DTOs (no managed entities).
+     */
+    List<MemberResponseDTO> findContent(Specification<Member> spec, Pageable pageable, int limit);
+
+    /**
+     * PostgreSQL planner estimate of the rows matching the name filters (EXPLAIN, no scan).
+     */
+    long estimateCount(String firstName, String lastName);
+
+    /**
+     * Streams id + names of every member through a server-side cursor (no entities, no full list in memory).
+     */
+    void forEachName(Consumer<MemberSuggestionDTO> consumer);
+
+    /**
+     * Streams the email of every live member through a server-side cursor.
+     */
+    void forEachEmail(Consumer<String> consumer);
+
+    /**
+     * Streams every member matching the name filters through a server-side cursor, in table order.
+     * Rows are handed to the consumer as DTOs (nothing attached to the persistence context), so
+     * memory does not grow with the number of rows.
+     */
+    void forEachMember(String firstName, String lastName, Consumer<MemberResponseDTO> consumer);
+}
@@ -0,0 +1,178 @@
+package com.surest.member.app.repository;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.dto.MemberSuggestionDTO;
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.util.LikePatterns;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    // Top plan node of EXPLAIN text output, e.g. "Seq Scan on member  (cost=0.00..1.10 rows=10 width=4)"
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private static final int STREAM_FETCH_SIZE = 5_000;
+
+    // The response columns plus updatedAt (for ETags) only: no managed entity, no dirty-checking snapshot
+    private static final String SELECT_RESPONSE = "select new com.surest.member.app.dto.MemberResponseDTO("
+            + "m.id, m.firstName, m.lastName, m.email, m.dateOfBirth, m.updatedAt) from Member m";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponseDTO> findPageAfter(String sortField, boolean ascending, Object lastValue, UUID lastId,
+                                                 String firstName, String lastName, int limit) {
+        String direction = ascending ? "asc" : "desc";
+        String comparison = ascending ? ">" : "<";
+
+        StringBuilder jpql = new StringBuilder(SELECT_RESPONSE).append(" where 1 = 1");
+        if (firstName != null && !firstName.isBlank()) {
+            jpql.append(" and lower(m.firstName) like :firstName escape '\\'");
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            jpql.append(" and lower(m.lastName) like :lastName escape '\\'");
+        }
+        if (lastId != null) {
+            // Seek predicate, rendered as a row-value comparison: (sort_col, id) > (?, ?)
+            if ("id".equals(sortField)) {
+                jpql.append(" and m.id ").append(comparison).append(" :lastId");
+            } else {
+                jpql.append(" and (m.").append(sortField).append(", m.id) ")
+                        .append(comparison).append(" (:lastValue, :lastId)");
+            }
+        }
+        jpql.append(" order by ");
+        if (!"id".equals(sortField)) {
+            jpql.append("m.").append(sortField).append(' ').append(direction).append(", ");
+        }
+        jpql.append("m.id ").append(direction);
+
+        TypedQuery<MemberResponseDTO> query = entityManager.createQuery(jpql.toString(), MemberResponseDTO.class);
+        if (firstName != null && !firstName.isBlank()) {
+            query.setParameter("firstName", LikePatterns.containsIgnoreCase(firstName));
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            query.setParameter("lastName", LikePatterns.containsIgnoreCase(lastName));
+        }
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+            if (!"id".equals(sortField)) {
+                query.setParameter("lastValue", lastValue);
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponseDTO> findContent(Specification<Member> spec, Pageable pageable, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MemberResponseDTO> query = cb.createQuery(MemberResponseDTO.class);
+        Root<Member> root = query.from(Member.class);
+        query.select(cb.construct(MemberResponseDTO.class, root.get("id"), root.get("firstName"),
+                root.get("lastName"), root.get("email"), root.get("dateOfBirth"), root.get("updatedAt")));
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long estimateCount(String firstName, String lastName) {
+        StringBuilder sql = new StringBuilder("EXPLAIN SELECT 1 FROM surest.member WHERE deleted_at IS NULL");
+        if (firstName != null && !firstName.isBlank()) {
+            sql.append(" AND lower(first_name) LIKE :firstName ESCAPE '\\'");
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            sql.append(" AND lower(last_name) LIKE :lastName ESCAPE '\\'");
+        }
+
+        var query = entityManager.createNativeQuery(sql.toString(), String.class);
+        if (firstName != null && !firstName.isBlank()) {
+            query.setParameter("firstName", LikePatterns.containsIgnoreCase(firstName));
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            query.setParameter("lastName", LikePatterns.containsIgnoreCase(lastName));
+        }
+
+        List<?> plan = query.getResultList();
+        if (!plan.isEmpty()) {
+            Matcher matcher = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+            if (matcher.find()) {
+                return Long.parseLong(matcher.group(1));
+            }
+        }
+        return 0L;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachName(Consumer<MemberSuggestionDTO> consumer) {
+        // PostgreSQL only honours the fetch size inside a transaction
+        try (var names = entityManager.createQuery(
+                        "select new com.surest.member.app.dto.MemberSuggestionDTO(m.id, m.firstName, m.lastName) from Member m",
+                        MemberSuggestionDTO.class)
+                .setHint("org.hibernate.fetchSize", STREAM_FETCH_SIZE)
+                .getResultStream()) {
+            names.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEmail(Consumer<String> consumer) {
+        // PostgreSQL only honours the fetch size inside a transaction
+        try (var emails = entityManager.createQuery("select m.email from Member m", String.class)
+                .setHint("org.hibernate.fetchSize", STREAM_FETCH_SIZE)
+                .getResultStream()) {
+            emails.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachMember(String firstName, String lastName, Consumer<MemberResponseDTO> consumer) {
+        // No order by: a full export is a sequential scan, sorting 10M rows would spill to disk
+        StringBuilder jpql = new StringBuilder(SELECT_RESPONSE).append(" where 1 = 1");
+        if (firstName != null && !firstName.isBlank()) {
+            jpql.append(" and lower(m.firstName) like :firstName escape '\\'");
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            jpql.append(" and lower(m.lastName) like :lastName escape '\\'");
+        }
+
+        TypedQuery<MemberResponseDTO> query = entityManager.createQuery(jpql.toString(), MemberResponseDTO.class);
+        if (firstName != null && !firstName.isBlank()) {
+            query.setParameter("firstName", LikePatterns.containsIgnoreCase(firstName));
+        }
+        if (lastName != null && !lastName.isBlank()) {
+            query.setParameter("lastName", LikePatterns.containsIgnoreCase(lastName));
+        }
+        // PostgreSQL only honours the fetch size inside a transaction
+        try (var members = query.setHint("org.hibernate.fetchSize", STREAM_FETCH_SIZE).getResultStream()) {
+            members.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.surest.member.app.repository;
+
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Member create and create-or-update keyed by email, each a single INSERT ... ON CONFLICT statement
+ * against the live-email index (ux_member_email_live). The database arbitrates concurrent writers of
+ * one email, so there is no separate existence check to race with.
+ */
+@Repository
+public class MemberUpsertRepository {
+
+    private static final String COLUMNS = "id, first_name, last_name, email, date_of_birth, updated_at";
+
+    private static final String INSERT = "INSERT INTO surest.member AS m"
+            + " (id, first_name, last_name, date_of_birth, email, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, now(), now())"
+            + " ON CONFLICT (email) WHERE deleted_at IS NULL";
+
+    // The outer SELECT sees the pre-statement snapshot, so it only contributes the row when nothing was written
+    private static final String UPSERT = "WITH upserted AS (" + INSERT
+            + " DO UPDATE SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name,"
+            + " date_of_birth = EXCLUDED.date_of_birth, updated_at = now()"
+            + " WHERE (m.first_name, m.last_name, m.date_of_birth)"
+            + " IS DISTINCT FROM (EXCLUDED.first_name, EXCLUDED.last_name, EXCLUDED.date_of_birth)"
+            + " RETURNING " + COLUMNS + ", xmax = 0 AS inserted"
+            + ") SELECT " + COLUMNS + ", CASE WHEN inserted THEN 'CREATED' ELSE 'UPDATED' END AS outcome FROM upserted"
+            + " UNION ALL"
+            + " SELECT " + COLUMNS + ", 'UNCHANGED' AS outcome FROM surest.member"
+            + " WHERE email = ? AND deleted_at IS NULL AND NOT EXISTS (SELECT 1 FROM upserted)";
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        UNCHANGED
+    }
+
+    /** The member after the upsert, and what the statement did to it. */
+    public record Result(MemberResponseDTO member, Outcome outcome) {
+    }
+
+    private static final RowMapper<MemberResponseDTO> MEMBER = (rs, rowNum) -> new MemberResponseDTO(
+            rs.getObject("id", UUID.class), rs.getString("first_name"), rs.getString("last_name"),
+            rs.getString("email"), rs.getDate("date_of_birth").toLocalDate(), rs.getTimestamp("updated_at"));
+
+    private static final RowMapper<Result> RESULT = (rs, rowNum) ->
+            new Result(MEMBER.mapRow(rs, rowNum), Outcome.valueOf(rs.getString("outcome")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the member unless a live member already has the email; empty in that case. A concurrent
+     * insert of the same email waits for the other transaction and then also comes back empty.
+     */
+    public Optional<MemberResponseDTO> insert(MemberRequestDTO member) {
+        List<MemberResponseDTO> rows = jdbcTemplate.query(INSERT + " DO NOTHING RETURNING " + COLUMNS, MEMBER,
+                UUID.randomUUID(), member.getFirstName(), member.getLastName(),
+                Date.valueOf(member.getDateOfBirth()), member.getEmail());
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Creates the member with this email, or overwrites the live one's names and date of birth; a row
+     * that already holds these values is not written. Empty only in the rare case where the existing row
+     * was committed after this statement's snapshot and needed no change; callers simply run it again.
+     */
+    public Optional<Result> upsert(String email, MemberRequestDTO member) {
+        List<Result> rows = jdbcTemplate.query(UPSERT, RESULT,
+                UUID.randomUUID(), member.getFirstName(), member.getLastName(),
+                Date.valueOf(member.getDateOfBirth()), email, email);
+        return rows.stream().findFirst();
+    }
+}
@@ -1,11 +1,24 @@
 package com.surest.member.app.repository;
 
 import com.surest.member.app.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // Same lookup with the lazy role join-fetched in one query
+    @EntityGraph(attributePaths = "role")
+    Optional<User> findWithRoleByUsername(String username);
+
+    // Set-based duplicate check for batch registration
+    @Query("select u.username from User u where u.username in :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
 }
@@ -0,0 +1,28 @@
+package com.surest.member.app.service;
+
+import java.util.Locale;
+
+/**
+ * How GET /api/v1/members computes totalElements/totalPages (the count= request option).
+ */
+public enum CountMode {
+    // COUNT(*) with the same filters, run alongside the content query (default)
+    EXACT,
+    // exact count, cached per filter signature for a short TTL
+    CACHED,
+    // PostgreSQL planner row estimate, no scan
+    ESTIMATED,
+    // no total at all: a Slice with hasNext
+    NONE;
+
+    public static CountMode fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("count must be one of exact, cached, estimated, none");
+        }
+    }
+}
@@ -1,23 +1,55 @@
 package com.surest.member.app.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.surest.member.app.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    // username -> password hash + authorities; stats exposed as cache.* metrics (cache=userDetails)
+    private final Cache<String, UserDetails> cache;
+
+    public CustomUserDetailsService(UserRepository userRepository, MeterRegistry meterRegistry,
+                                    @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${auth.user-cache.ttl:5m}") Duration ttl) {
         this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByUsername(username)
+        UserDetails cached = cache.get(username, this::loadFromDatabase);
+
+        // Hand out a copy: Spring Security erases credentials on the returned instance after login
+        return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+    }
+
+    /**
+     * Drops the cached entry; call whenever a user's username, password or role changes.
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    private UserDetails loadFromDatabase(String username) {
+        var user = userRepository.findWithRoleByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         // Always prefix with ROLE_ for Spring Security
         String roleName = "ROLE_" + user.getRole().getRoleName().toUpperCase();
@@ -28,4 +60,4 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .authorities(roleName)
                 .build();
     }
-}
\ No newline at end of file
+}
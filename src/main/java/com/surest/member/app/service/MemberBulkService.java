@@ -0,0 +1,249 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.MemberBulkDeleteDTO;
+import com.surest.member.app.dto.MemberBulkResultDTO;
+import com.surest.member.app.dto.MemberBulkResultDTO.Status;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.repository.MemberDeletionRepository;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.util.MemberMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk member creation: all items validated up front, one set-based email duplicate check, then
+ * inserts in chunks of members.bulk.chunk-size, each chunk its own transaction and flushed as JDBC
+ * batches (hibernate.jdbc.batch_size, order_inserts). The duplicate check only queries the emails
+ * {@link MemberEmailFilter} cannot rule out.
+ * <p>
+ * Bulk deletion by ids or by name filter: soft deletes as set-based UPDATEs of at most
+ * members.bulk.chunk-size rows each, followed by a {@link MembersDeletedEvent} (one for a list of ids,
+ * one per chunk for a filter). A filter deletes at most members.bulk.max-size rows per call.
+ */
+@Service
+public class MemberBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberBulkService.class);
+
+    // Keeps each IN (...) well below the PostgreSQL bind parameter limit
+    private static final int MAX_IN_LIST = 10_000;
+
+    private final MemberRepository memberRepository;
+    private final MemberDeletionRepository memberDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final MemberCountService countService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final MemberEmailFilter emailFilter;
+    private final int maxSize;
+    private final int chunkSize;
+
+    public MemberBulkService(MemberRepository memberRepository, MemberDeletionRepository memberDeletionRepository,
+                             TransactionTemplate transactionTemplate, Validator validator,
+                             MemberCountService countService, ApplicationEventPublisher eventPublisher,
+                             CacheManager cacheManager, MemberEmailFilter emailFilter,
+                             @Value("${members.bulk.max-size:50000}") int maxSize,
+                             @Value("${members.bulk.chunk-size:1000}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.memberDeletionRepository = memberDeletionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.countService = countService;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.emailFilter = emailFilter;
+        this.maxSize = maxSize;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<MemberBulkResultDTO> createMembers(List<MemberRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one member is required");
+        }
+        if (requests.size() > maxSize) {
+            throw new IllegalArgumentException("Bulk size exceeds the limit of " + maxSize);
+        }
+
+        MemberBulkResultDTO[] results = new MemberBulkResultDTO[requests.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                MemberRequestDTO request = requests.get(i);
+                results[i] = new MemberBulkResultDTO(i, request == null ? null : request.getEmail(), null, Status.INVALID, error);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        Set<String> existing = findExistingEmails(valid.stream().map(i -> requests.get(i).getEmail()).collect(Collectors.toSet()));
+        List<Integer> accepted = new ArrayList<>(valid.size());
+        Set<String> seen = new HashSet<>();
+        for (Integer i : valid) {
+            String email = requests.get(i).getEmail();
+            if (existing.contains(email) || !seen.add(email)) {
+                results[i] = new MemberBulkResultDTO(i, email, null, Status.DUPLICATE, "Email already exists");
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        int created = 0;
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            created += insertChunk(requests, accepted.subList(from, Math.min(from + chunkSize, accepted.size())), results);
+        }
+        if (created > 0) {
+            countService.invalidateCachedCounts();
+        }
+
+        log.info("Bulk member create: {} requested, {} created", requests.size(), created);
+        return List.of(results);
+    }
+
+    /**
+     * Soft-deletes the listed members, or up to members.bulk.max-size live members matching the name
+     * filter; returns how many were deleted. A filter that matches more is repeated by the caller until
+     * fewer than max-size come back. Each chunk is its own statement, so an offboarding of thousands of
+     * members never holds more than one chunk's row locks at a time.
+     */
+    public int deleteMembers(MemberBulkDeleteDTO request) {
+        if (request == null || request.hasIds() == request.hasFilter()) {
+            throw new IllegalArgumentException("Either ids or a firstName/lastName filter is required");
+        }
+
+        int deleted = request.hasIds() ? deleteByIds(request.getIds()) : deleteMatching(request.getFirstName(), request.getLastName());
+        log.info("Bulk member delete: {} deleted", deleted);
+        return deleted;
+    }
+
+    private int deleteByIds(List<UUID> requested) {
+        List<UUID> ids = requested.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > maxSize) {
+            throw new IllegalArgumentException("Bulk size exceeds the limit of " + maxSize);
+        }
+        List<UUID> deleted = new ArrayList<>();
+        try {
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                deleted.addAll(memberDeletionRepository.softDeleteAll(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+            }
+        } finally {
+            // Chunks already committed stay deleted even if a later one fails, so caches must drop them either way
+            afterDelete(deleted);
+        }
+        return deleted.size();
+    }
+
+    // The match count is unknown up front: capped at max-size, and each chunk is evicted and published as
+    // soon as it commits, so nothing here grows with the number of matches
+    private int deleteMatching(String firstName, String lastName) {
+        int deleted = 0;
+        int limit;
+        List<UUID> chunk;
+        do {
+            limit = Math.min(chunkSize, maxSize - deleted);
+            chunk = memberDeletionRepository.softDeleteMatching(firstName, lastName, limit);
+            afterDelete(chunk);
+            deleted += chunk.size();
+        } while (chunk.size() == limit && deleted < maxSize);
+        return deleted;
+    }
+
+    private void afterDelete(List<UUID> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        Cache members = cacheManager.getCache(CacheConfig.MEMBERS);
+        deleted.forEach(members::evict);
+        countService.invalidateCachedCounts();
+        eventPublisher.publishEvent(new MembersDeletedEvent(List.copyOf(deleted)));
+    }
+
+    private int insertChunk(List<MemberRequestDTO> requests, List<Integer> chunk, MemberBulkResultDTO[] results) {
+        List<Member> members = chunk.stream().map(i -> MemberMapper.toEntity(requests.get(i))).toList();
+        try {
+            // One transaction per chunk: a late failure only rolls back this chunk
+            transactionTemplate.executeWithoutResult(status -> memberRepository.saveAll(members));
+        } catch (DataIntegrityViolationException e) {
+            // An email was taken concurrently since the duplicate check: retry row by row
+            log.warn("Bulk chunk of {} members hit a constraint violation, retrying row by row", chunk.size());
+            return insertOneByOne(requests, chunk, results);
+        }
+
+        for (int j = 0; j < chunk.size(); j++) {
+            created(chunk.get(j), members.get(j), results);
+        }
+        return chunk.size();
+    }
+
+    private int insertOneByOne(List<MemberRequestDTO> requests, List<Integer> chunk, MemberBulkResultDTO[] results) {
+        int created = 0;
+        for (Integer i : chunk) {
+            Member member = MemberMapper.toEntity(requests.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> memberRepository.save(member));
+                created(i, member, results);
+                created++;
+            } catch (DataIntegrityViolationException e) {
+                results[i] = new MemberBulkResultDTO(i, member.getEmail(), null, Status.DUPLICATE, "Email already exists");
+            } catch (RuntimeException e) {
+                results[i] = new MemberBulkResultDTO(i, member.getEmail(), null, Status.FAILED, e.getMessage());
+            }
+        }
+        return created;
+    }
+
+    private void created(int index, Member member, MemberBulkResultDTO[] results) {
+        results[index] = new MemberBulkResultDTO(index, member.getEmail(), member.getId(), Status.CREATED, "Member created");
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, member.getId(),
+                MemberMapper.toResponse(member)));
+    }
+
+    private Set<String> findExistingEmails(Set<String> emails) {
+        // Emails the filter rules out cannot be taken; an import of new members queries next to nothing
+        List<String> candidates = emailFilter.possiblyExisting(emails);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += MAX_IN_LIST) {
+            existing.addAll(memberRepository.findExistingEmails(
+                    candidates.subList(from, Math.min(from + MAX_IN_LIST, candidates.size()))));
+        }
+        emailFilter.recordFalsePositives(candidates.size() - existing.size());
+        return existing;
+    }
+
+    private String validate(MemberRequestDTO request) {
+        if (request == null) {
+            return "Request is empty";
+        }
+        Set<ConstraintViolation<MemberRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,253 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.config.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the members cache coherent across replicas. Member writes on this node are announced with
+ * pg_notify on a shared channel; every node LISTENs on a dedicated connection (outside the pool) and
+ * evicts the affected entries from its own cache. Notifications sent while a node's listener was
+ * disconnected are lost, so every (re)connect starts with a full flush of the local cache.
+ * <p>
+ * Payloads are "&lt;node id&gt;:EVICT:&lt;member id&gt;" or "&lt;node id&gt;:FLUSH"; a node ignores its own.
+ */
+@Component
+public class MemberCacheCoherence {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberCacheCoherence.class);
+
+    static final String EVICT = "EVICT";
+    static final String FLUSH = "FLUSH";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final MemberCountService countService;
+    private final MemberPageCache pageCache;
+    private final boolean enabled;
+    private final String channel;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration keepaliveInterval;
+    private final Duration maxReconnectDelay;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter received;
+    private final Counter flushes;
+    private final Timer sendTimer;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public MemberCacheCoherence(JdbcTemplate jdbcTemplate, CacheManager cacheManager, MemberCountService countService,
+                                MemberPageCache pageCache, MeterRegistry meterRegistry,
+                                @Value("${members.cache.coherence.enabled:true}") boolean enabled,
+                                @Value("${members.cache.coherence.channel:member_changes}") String channel,
+                                @Value("${spring.datasource.url}") String url,
+                                @Value("${spring.datasource.username}") String username,
+                                @Value("${spring.datasource.password}") String password,
+                                @Value("${members.cache.coherence.keepalive-interval:PT10S}") Duration keepaliveInterval,
+                                @Value("${members.cache.coherence.max-reconnect-delay:PT30S}") Duration maxReconnectDelay) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            // LISTEN takes an identifier, not a bind parameter
+            throw new IllegalArgumentException("members.cache.coherence.channel must be a lower-case SQL identifier");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.countService = countService;
+        this.pageCache = pageCache;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.keepaliveInterval = keepaliveInterval;
+        this.maxReconnectDelay = maxReconnectDelay;
+        this.received = Counter.builder("members.cache.coherence.received")
+                .description("Invalidations applied from other nodes")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("members.cache.coherence.flushes")
+                .description("Full local cache flushes (listener (re)connects and FLUSH messages)")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("members.cache.coherence.send")
+                .description("pg_notify round trip for a local member write")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "member-cache-coherence");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    /**
+     * True while the listener connection is up (and has flushed after connecting).
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    // Creates need no message: nulls are never cached, so no node can hold a stale entry for a new id.
+    // Other nodes' list pages pick up remote creates when the page cache TTL expires
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.type() != MemberChangedEvent.Type.CREATED) {
+            send(EVICT + ":" + event.id());
+        }
+    }
+
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        send(FLUSH);
+    }
+
+    // A NOTIFY payload is limited to 8000 bytes, too small for a bulk delete's ids
+    @EventListener
+    public void onMembersDeleted(MembersDeletedEvent event) {
+        send(FLUSH);
+    }
+
+    private void send(String message) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // The write has committed by now, so other nodes cannot reload the old row after evicting
+            sendTimer.record(() -> {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, nodeId + ":" + message);
+            });
+        } catch (RuntimeException e) {
+            // Never fail the write itself; other nodes converge at the latest when the entry expires
+            log.warn("Could not publish member cache invalidation {}", message, e);
+        }
+    }
+
+    private void listenLoop() {
+        long delayMillis = 500;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                // Anything sent while we were not listening is lost
+                flushLocal("listener connected");
+                listening = true;
+                delayMillis = 500;
+                poll(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Member cache coherence listener lost its connection, reconnecting in {} ms", delayMillis, e);
+                }
+            } finally {
+                listening = false;
+            }
+            if (!running) {
+                break;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            delayMillis = Math.min(delayMillis * 2, maxReconnectDelay.toMillis());
+        }
+    }
+
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int timeoutMillis = (int) keepaliveInterval.toMillis();
+        while (running && !Thread.currentThread().isInterrupted()) {
+            // Returns as soon as a notification arrives, or empty after the keepalive interval
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                // Idle: make sure the connection is still alive, a silent drop would otherwise go unnoticed
+                if (!connection.isValid(5)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    applyNotification(notification.getParameter());
+                } catch (RuntimeException e) {
+                    log.warn("Ignoring malformed member cache message {}", notification.getParameter(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies one channel payload to the local cache; messages from this node are ignored.
+     */
+    public void applyNotification(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            return;
+        }
+        received.increment();
+        switch (parts[1]) {
+            case EVICT -> {
+                if (parts.length == 3) {
+                    membersCache().evict(UUID.fromString(parts[2]));
+                    countService.invalidateCachedCounts();
+                    pageCache.invalidate();
+                }
+            }
+            case FLUSH -> flushLocal("flush requested by " + parts[0]);
+            default -> log.debug("Ignoring unknown member cache message {}", payload);
+        }
+    }
+
+    private void flushLocal(String reason) {
+        membersCache().clear();
+        countService.invalidateCachedCounts();
+        pageCache.invalidate();
+        flushes.increment();
+        log.info("Flushed local members cache ({})", reason);
+    }
+
+    private Cache membersCache() {
+        return cacheManager.getCache(CacheConfig.MEMBERS);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Optional startup warm-up of the members cache with the most recently updated members, which are
+ * the likeliest to be read next. Disabled when members.cache.warm-up-size is 0.
+ */
+@Component
+public class MemberCacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberCacheWarmer.class);
+
+    private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final int warmUpSize;
+
+    public MemberCacheWarmer(MemberRepository memberRepository, CacheManager cacheManager,
+                             @Value("${members.cache.warm-up-size:0}") int warmUpSize) {
+        this.memberRepository = memberRepository;
+        this.cacheManager = cacheManager;
+        this.warmUpSize = warmUpSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmUpSize <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBERS);
+        List<MemberResponseDTO> members = memberRepository.findMostRecentlyUpdated(PageRequest.of(0, warmUpSize));
+        // putIfAbsent: an entry written by a request meanwhile is newer than this snapshot
+        members.forEach(member -> cache.putIfAbsent(member.getId(), member));
+        log.info("Warmed members cache with {} members in {} ms", members.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
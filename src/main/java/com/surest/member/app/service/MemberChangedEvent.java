@@ -0,0 +1,18 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+
+import java.util.UUID;
+
+/**
+ * Published by {@link MemberServiceImpl} after a member row is created, updated or deleted.
+ * For DELETED the snapshot is the member as it was before removal.
+ */
+public record MemberChangedEvent(Type type, UUID id, MemberResponseDTO member) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
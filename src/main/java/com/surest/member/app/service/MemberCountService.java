@@ -0,0 +1,150 @@
+package com.surest.member.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Total counts for member listings, per {@link CountMode}.
+ * <p>
+ * Exact counts run on a small dedicated pool so the caller can fetch the page content meanwhile;
+ * when the pool is saturated the count simply runs on the caller (sequential, as before).
+ * Time spent counting is recorded as members.count, tagged by mode.
+ */
+@Service
+public class MemberCountService {
+
+    private final MemberRepository memberRepository;
+    private final ThreadPoolExecutor executor;
+
+    // normalized filter signature -> exact total; stats exposed as cache.* metrics (cache=memberCounts)
+    private final Cache<FilterKey, Long> cachedCounts;
+
+    private final Timer exactTimer;
+    private final Timer cachedTimer;
+    private final Timer estimatedTimer;
+
+    public MemberCountService(MemberRepository memberRepository, MeterRegistry meterRegistry,
+                              @Value("${members.count.pool-size:4}") int poolSize,
+                              @Value("${members.count.cache-ttl:30s}") Duration cacheTtl,
+                              @Value("${members.count.cache-maximum-size:1000}") long cacheMaximumSize) {
+        this.memberRepository = memberRepository;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                new CustomizableThreadFactory("member-count-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.cachedCounts = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+
+        new ExecutorServiceMetrics(executor, "memberCount", Tags.empty()).bindTo(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cachedCounts, "memberCounts");
+        this.exactTimer = countTimer(meterRegistry, "exact");
+        this.cachedTimer = countTimer(meterRegistry, "cached");
+        this.estimatedTimer = countTimer(meterRegistry, "estimated");
+    }
+
+    /**
+     * Starts the count for the given filters. Cached hits and estimates complete immediately;
+     * exact counts complete on the count pool. Not valid for {@link CountMode#NONE}.
+     */
+    public CompletableFuture<Long> countAsync(CountMode mode, Specification<Member> spec,
+                                              String firstName, String lastName) {
+        return switch (mode) {
+            case EXACT -> CompletableFuture.supplyAsync(() -> timed(exactTimer, () -> exactCount(spec)), executor);
+            case CACHED -> {
+                FilterKey key = FilterKey.of(firstName, lastName);
+                Long cached = cachedCounts.getIfPresent(key);
+                if (cached != null) {
+                    yield CompletableFuture.completedFuture(cached);
+                }
+                yield CompletableFuture.supplyAsync(() -> {
+                    long total = timed(cachedTimer, () -> exactCount(spec));
+                    cachedCounts.put(key, total);
+                    return total;
+                }, executor);
+            }
+            case ESTIMATED -> CompletableFuture.completedFuture(
+                    timed(estimatedTimer, () -> memberRepository.estimateCount(firstName, lastName)));
+            case NONE -> throw new IllegalArgumentException("count=none has no total");
+        };
+    }
+
+    /**
+     * Waits for a count started by {@link #countAsync}, rethrowing the count's own exception.
+     */
+    public long await(CompletableFuture<Long> total) {
+        try {
+            return total.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drops all cached totals; call when members are created, deleted or changed (a rename changes filtered totals).
+     */
+    public void invalidateCachedCounts() {
+        cachedCounts.invalidateAll();
+    }
+
+    private long exactCount(Specification<Member> spec) {
+        return spec == null ? memberRepository.count() : memberRepository.count(spec);
+    }
+
+    private static long timed(Timer timer, LongSupplier count) {
+        long start = System.nanoTime();
+        try {
+            return count.getAsLong();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer countTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("members.count")
+                .description("Time spent computing member listing totals")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record FilterKey(String firstName, String lastName) {
+        static FilterKey of(String firstName, String lastName) {
+            return new FilterKey(normalize(firstName), normalize(lastName));
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
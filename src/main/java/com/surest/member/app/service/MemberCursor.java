@@ -0,0 +1,84 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort the page was read with,
+ * plus the sort key and id of the last row returned.
+ */
+final class MemberCursor {
+
+    // Sortable in cursor mode: every column returned to the client
+    static final List<String> SORT_FIELDS = List.of("id", "firstName", "lastName", "email", "dateOfBirth");
+
+    record SortKey(String field, boolean ascending) {
+    }
+
+    record Position(Object value, UUID lastId) {
+    }
+
+    private MemberCursor() {
+    }
+
+    static SortKey parseSort(String sortStr) {
+        if (sortStr == null || sortStr.isBlank()) {
+            return new SortKey("id", true);
+        }
+        String[] sortParams = sortStr.split(",");
+        String field = sortParams[0].trim();
+        if (!SORT_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Unsupported sort field for cursor pagination: " + field);
+        }
+        boolean ascending = sortParams.length < 2
+                || Sort.Direction.fromString(sortParams[1].trim()).isAscending();
+        return new SortKey(field, ascending);
+    }
+
+    static String encode(SortKey sort, MemberResponseDTO last) {
+        String value = switch (sort.field()) {
+            case "firstName" -> last.getFirstName();
+            case "lastName" -> last.getLastName();
+            case "email" -> last.getEmail();
+            case "dateOfBirth" -> last.getDateOfBirth().toString();
+            default -> "";
+        };
+        String raw = sort.field() + ":" + (sort.ascending() ? "asc" : "desc") + ":" + last.getId() + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Position decode(String cursor, SortKey expected) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!parts[0].equals(expected.field()) || parts[1].equals("asc") != expected.ascending()) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        UUID lastId;
+        Object value;
+        try {
+            lastId = UUID.fromString(parts[2]);
+            value = switch (expected.field()) {
+                case "id" -> lastId;
+                case "dateOfBirth" -> LocalDate.parse(parts[3]);
+                default -> parts[3];
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new Position(value, lastId);
+    }
+}
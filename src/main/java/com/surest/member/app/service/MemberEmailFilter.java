@@ -0,0 +1,243 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.util.CountingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory counting Bloom filter of live member emails (trimmed, lower-cased), so a duplicate check
+ * can skip the database for emails that are definitely not taken, which is almost every email in an
+ * import. Loaded on startup by streaming the email column, kept current from {@link MemberChangedEvent},
+ * and rebuilt every members.email-filter.rebuild-interval to shed emails it could not remove.
+ * <p>
+ * Only emails this node added since the last rebuild are removed on delete (they are tracked exactly,
+ * a set bounded by local writes per rebuild interval). Any other deleted email, streamed or created on
+ * another replica, stays until the rebuild: removing a value the filter may not hold would clear slots
+ * other emails depend on.
+ * <p>
+ * A "maybe" still goes to the database. A wrong "absent" (a member created on another replica since the
+ * last rebuild) is caught by the unique index on insert, so the filter only ever saves queries. Until
+ * the first load completes, and when disabled, every email is a "maybe".
+ */
+@Service
+public class MemberEmailFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberEmailFilter.class);
+
+    private final MemberRepository memberRepository;
+    private final boolean enabled;
+    private final int expectedMembers;
+    private final double falsePositiveRate;
+    private final AtomicLong entries = new AtomicLong();
+    private final Counter skipped;
+    private final Counter falsePositives;
+    // A lock, not a monitor: the rebuild streams from JDBC, which would pin a virtual thread inside synchronized
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Rebuilds after an import, off the import's request thread; one running and one queued, like the name index
+    private final ThreadPoolExecutor rebuildExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("member-email-filter-rebuild-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    private volatile CountingBloomFilter filter;
+    private volatile boolean loaded;
+    // Emails added to the live filter from events since it was built, the only ones it may remove (guarded by this)
+    private Set<String> added = new HashSet<>();
+    // Filter being loaded by a rebuild and the emails added to it from events (guarded by this)
+    private CountingBloomFilter loading;
+    private Set<String> addedWhileLoading;
+
+    public MemberEmailFilter(MemberRepository memberRepository, MeterRegistry meterRegistry,
+                             @Value("${members.email-filter.enabled:true}") boolean enabled,
+                             @Value("${members.email-filter.expected-members:1000000}") int expectedMembers,
+                             @Value("${members.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("members.email-filter.false-positive-rate must be between 0 and 1");
+        }
+        this.memberRepository = memberRepository;
+        this.enabled = enabled;
+        this.expectedMembers = expectedMembers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new CountingBloomFilter(1, falsePositiveRate);
+
+        Gauge.builder("members.email-filter.bytes", this, f -> f.filter.sizeInBytes())
+                .description("Heap used by the member email filter")
+                .register(meterRegistry);
+        Gauge.builder("members.email-filter.emails", entries, AtomicLong::get)
+                .description("Emails in the member email filter: streamed by its last rebuild plus added since, less those removed")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("members.email-filter.skipped")
+                .description("Duplicate checks answered by the email filter without the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("members.email-filter.false-positives")
+                .description("Emails the filter reported as possibly taken that the database did not have")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(rebuildExecutor, "memberEmailFilterRebuild", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${members.email-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${members.email-filter.rebuild-interval:PT6H}")
+    public void scheduledRebuild() {
+        load();
+    }
+
+    // Imports bypass MemberChangedEvent, so rebuild from the table, in the background: until then the
+    // imported emails are wrongly "absent", which the unique index catches as for any other miss
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Email filter rebuild after import {} failed; it stays as it was", event.jobId(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @EventListener
+    public synchronized void onMemberChanged(MemberChangedEvent event) {
+        if (event.member() == null) {
+            return;
+        }
+        String email = normalize(event.member().getEmail());
+        if (event.type() == MemberChangedEvent.Type.DELETED) {
+            // Anything else is left to the rebuild; a stale entry only costs a database check
+            if (added.remove(email)) {
+                filter.remove(email);
+                entries.decrementAndGet();
+            }
+            if (loading != null && addedWhileLoading.remove(email)) {
+                loading.remove(email);
+            }
+        } else {
+            // An update's previous email is unknown here; it stays in the filter until the next rebuild
+            add(email);
+        }
+    }
+
+    // MembersDeletedEvent carries ids only: those emails are shed by the next rebuild
+
+    /**
+     * False only when no live member has this email (as far as this node has seen since the last rebuild).
+     */
+    public boolean mightExist(String email) {
+        if (!loaded || email == null) {
+            return true;
+        }
+        boolean maybe = filter.mightContain(normalize(email));
+        if (!maybe) {
+            skipped.increment();
+        }
+        return maybe;
+    }
+
+    /**
+     * The subset of the emails that might be taken; only these need a database check.
+     */
+    public List<String> possiblyExisting(Collection<String> emails) {
+        return emails.stream().filter(this::mightExist).toList();
+    }
+
+    /**
+     * Reports how many emails the filter let through that the database then did not find.
+     */
+    public void recordFalsePositives(int count) {
+        if (count > 0) {
+            falsePositives.increment(count);
+        }
+    }
+
+    long sizeInBytes() {
+        return filter.sizeInBytes();
+    }
+
+    void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            long estimate = memberRepository.estimateCount(null, null);
+            int expected = (int) Math.min(Integer.MAX_VALUE / 4, Math.max(expectedMembers, estimate * 2));
+            CountingBloomFilter rebuilt = new CountingBloomFilter(expected, falsePositiveRate);
+            AtomicLong streamed = new AtomicLong();
+            synchronized (this) {
+                loading = rebuilt;
+                addedWhileLoading = new HashSet<>();
+            }
+            try {
+                memberRepository.forEachEmail(email -> {
+                    rebuilt.add(normalize(email));
+                    streamed.incrementAndGet();
+                });
+                synchronized (this) {
+                    // Additions made while streaming went into both filters, so the new one misses nothing
+                    filter = rebuilt;
+                    added = addedWhileLoading;
+                    entries.set(streamed.get() + added.size());
+                    loaded = true;
+                }
+            } finally {
+                synchronized (this) {
+                    loading = null;
+                    addedWhileLoading = null;
+                }
+            }
+            log.info("Loaded {} member emails into the email filter ({} KB) in {} ms", streamed.get(),
+                    rebuilt.sizeInBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Once per email: an update that keeps its email must not raise the counters again
+    private void add(String email) {
+        if (added.add(email)) {
+            filter.add(email);
+            entries.incrementAndGet();
+        }
+        if (loading != null && addedWhileLoading.add(email)) {
+            loading.add(email);
+        }
+    }
+
+    static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
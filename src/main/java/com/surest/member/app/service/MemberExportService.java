@@ -0,0 +1,169 @@
+package com.surest.member.app.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Full-table member export for downstream analytics. Rows come off a server-side cursor and are
+ * written to the response as they arrive: heap use is one fetch batch plus the output buffer,
+ * whatever the number of members.
+ */
+@Service
+public class MemberExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Same column names the CSV import accepts, so an export can be re-imported as is
+    static final String CSV_HEADER = "id,firstName,lastName,email,dateOfBirth";
+
+    private final MemberRepository memberRepository;
+    // Per-row flushes would turn every member into its own HTTP chunk
+    private final ObjectWriter ndjsonWriter;
+
+    public MemberExportService(MemberRepository memberRepository, ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.ndjsonWriter = objectMapper.writerFor(MemberResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every member matching the name filters to out, gzip-compressed when asked.
+     * out is finished but not closed. Returns the number of members written.
+     */
+    public long export(MemberFileFormat format, String firstName, String lastName, boolean gzip, OutputStream out)
+            throws IOException {
+        long start = System.nanoTime();
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(compressed != null ? compressed : out,
+                StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowSink sink = format == MemberFileFormat.CSV ? new CsvSink(writer) : new NdjsonSink(writer);
+        AtomicLong rows = new AtomicLong();
+
+        try {
+            memberRepository.forEachMember(firstName, lastName, member -> {
+                try {
+                    sink.write(member);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows.incrementAndGet();
+            });
+        } catch (UncheckedIOException e) {
+            // Client went away mid-download; the cursor and its transaction are already closed
+            throw e.getCause();
+        }
+
+        sink.finish();
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        log.info("Exported {} members as {} in {} ms", rows.get(), format, (System.nanoTime() - start) / 1_000_000);
+        return rows.get();
+    }
+
+    private interface RowSink {
+        void write(MemberResponseDTO member) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private final class NdjsonSink implements RowSink {
+
+        private final JsonGenerator generator;
+
+        NdjsonSink(Writer writer) throws IOException {
+            this.generator = ndjsonWriter.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Each row ends with its own newline instead of the generator's default space separator
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(MemberResponseDTO member) throws IOException {
+            ndjsonWriter.writeValue(generator, member);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvSink implements RowSink {
+
+        private final Writer writer;
+
+        CsvSink(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(MemberResponseDTO member) throws IOException {
+            writer.write(member.getId().toString());
+            writer.write(',');
+            writeCsvField(writer, member.getFirstName());
+            writer.write(',');
+            writeCsvField(writer, member.getLastName());
+            writer.write(',');
+            writeCsvField(writer, member.getEmail());
+            writer.write(',');
+            if (member.getDateOfBirth() != null) {
+                writer.write(member.getDateOfBirth().toString());
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() {
+            // rows go straight to the writer
+        }
+    }
+
+    // RFC 4180: quote only when needed, doubling embedded quotes
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
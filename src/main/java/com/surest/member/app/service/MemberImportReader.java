@@ -0,0 +1,212 @@
+package com.surest.member.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest.member.app.dto.MemberRequestDTO;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Pull parser over an uploaded import body, one record at a time, so memory does not grow with
+ * the file. Records that cannot be parsed come back with a parse error instead of a member.
+ */
+abstract class MemberImportReader implements Closeable {
+
+    // Longest CSV record / NDJSON line accepted; anything larger is a malformed file, not a member
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    record ImportRecord(long recordNumber, MemberRequestDTO member, String parseError) {
+    }
+
+    protected final BufferedReader reader;
+    private long recordNumber;
+
+    MemberImportReader(InputStream body) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    static MemberImportReader open(MemberFileFormat format, InputStream body, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(body);
+            case NDJSON -> new Ndjson(body, objectMapper);
+        };
+    }
+
+    /**
+     * Next record, or null at the end of the input.
+     */
+    ImportRecord next() throws IOException {
+        return readRecord(++recordNumber);
+    }
+
+    abstract ImportRecord readRecord(long number) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * RFC 4180 CSV with a header row naming the columns (firstName, lastName, email, dateOfBirth;
+     * snake_case also accepted), in any order.
+     */
+    static final class Csv extends MemberImportReader {
+
+        private final int firstName;
+        private final int lastName;
+        private final int email;
+        private final int dateOfBirth;
+
+        Csv(InputStream body) throws IOException {
+            super(body);
+            List<String> header = readRow();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV import is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+            }
+            this.firstName = column(columns, "firstname");
+            this.lastName = column(columns, "lastname");
+            this.email = column(columns, "email");
+            this.dateOfBirth = column(columns, "dateofbirth");
+        }
+
+        @Override
+        ImportRecord readRecord(long number) throws IOException {
+            List<String> row = readRow();
+            if (row == null) {
+                return null;
+            }
+            int needed = Math.max(Math.max(firstName, lastName), Math.max(email, dateOfBirth)) + 1;
+            if (row.size() < needed) {
+                return new ImportRecord(number, null, "Expected " + needed + " columns, found " + row.size());
+            }
+            LocalDate dob = null;
+            String dobText = row.get(dateOfBirth).trim();
+            if (!dobText.isEmpty()) {
+                try {
+                    dob = LocalDate.parse(dobText);
+                } catch (DateTimeParseException e) {
+                    return new ImportRecord(number, null, "dateOfBirth must be yyyy-MM-dd");
+                }
+            }
+            return new ImportRecord(number, new MemberRequestDTO(row.get(firstName).trim(), row.get(lastName).trim(),
+                    emptyToNull(row.get(email).trim()), dob), null);
+        }
+
+        // One CSV record (quoted fields may span lines); blank lines are skipped, null at EOF
+        private List<String> readRow() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean any = false;
+            int length = 0;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (++length > MAX_RECORD_CHARS) {
+                    throw new IOException("CSV record longer than " + MAX_RECORD_CHARS + " characters");
+                }
+                any = true;
+                if (inQuotes) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            inQuotes = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    inQuotes = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    if (fields.isEmpty() && field.isEmpty()) {
+                        // blank line
+                        any = false;
+                        length = 0;
+                        continue;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private static int column(Map<String, Integer> columns, String name) {
+            Integer index = columns.get(name);
+            if (index == null) {
+                throw new IllegalArgumentException("CSV header is missing column " + name);
+            }
+            return index;
+        }
+
+        private static String emptyToNull(String value) {
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * One MemberRequestDTO JSON object per line.
+     */
+    static final class Ndjson extends MemberImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        Ndjson(InputStream body, ObjectMapper objectMapper) {
+            super(body);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        ImportRecord readRecord(long number) throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            if (line.length() > MAX_RECORD_CHARS) {
+                return new ImportRecord(number, null, "Line longer than " + MAX_RECORD_CHARS + " characters");
+            }
+            try {
+                return new ImportRecord(number, objectMapper.readValue(line, MemberRequestDTO.class), null);
+            } catch (JsonProcessingException e) {
+                return new ImportRecord(number, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
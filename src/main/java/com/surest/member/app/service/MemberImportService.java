@@ -0,0 +1,242 @@
+package com.surest.member.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest.member.app.dto.MemberImportRejectionDTO;
+import com.surest.member.app.dto.MemberImportStatusDTO;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.entity.MemberImportJob;
+import com.surest.member.app.exception.ResourceNotFoundException;
+import com.surest.member.app.repository.MemberImportJobRepository;
+import com.surest.member.app.repository.MemberImportStagingRepository;
+import com.surest.member.app.repository.MemberImportStagingRepository.StagedMember;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming member import: the upload is read one chunk of records at a time, each chunk is
+ * validated in parallel, COPY'd into surest.member_import_staging and merged into surest.member
+ * in a single transaction that also advances the job's checkpoint. Memory is bounded by the chunk
+ * size, not the file size. Re-uploading the same file with the job id resumes after the last
+ * committed chunk.
+ */
+@Service
+public class MemberImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberImportService.class);
+
+    private final MemberImportJobRepository jobRepository;
+    private final MemberImportStagingRepository stagingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final MemberCountService countService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxReportedRejections;
+
+    // Jobs currently reading an upload on this instance
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public MemberImportService(MemberImportJobRepository jobRepository, MemberImportStagingRepository stagingRepository,
+                               TransactionTemplate transactionTemplate, Validator validator, ObjectMapper objectMapper,
+                               MemberCountService countService, ApplicationEventPublisher eventPublisher,
+                               @Value("${members.import.chunk-size:5000}") int chunkSize,
+                               @Value("${members.import.max-reported-rejections:100}") int maxReportedRejections) {
+        this.jobRepository = jobRepository;
+        this.stagingRepository = stagingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.countService = countService;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * Runs an import to completion (or failure) while streaming the body. A new job id may be chosen
+     * by the caller so it can poll the status meanwhile; the id of a failed job resumes it, skipping
+     * records already committed without validating them again.
+     */
+    public MemberImportStatusDTO importMembers(UUID jobId, MemberFileFormat format, InputStream body) throws IOException {
+        MemberImportJob job = jobId == null ? newJob(UUID.randomUUID(), format) : resumableJob(jobId, format);
+        // Opening reads the CSV header, so a bad header is a 400 before any job state changes
+        MemberImportReader reader = MemberImportReader.open(format, body, objectMapper);
+        if (!activeJobs.add(job.getId())) {
+            reader.close();
+            throw new IllegalArgumentException("Import job " + job.getId() + " is already running");
+        }
+
+        Instant started = Instant.now();
+        long recordsAtStart = job.getRecordsCommitted();
+        try (reader) {
+            job.setStatus(MemberImportJob.Status.RUNNING);
+            job.setError(null);
+            touch(job);
+            job = jobRepository.save(job);
+
+            skipCommitted(reader, job.getRecordsCommitted());
+            List<MemberImportReader.ImportRecord> chunk;
+            while (!(chunk = readChunk(reader)).isEmpty()) {
+                job = processChunk(job, chunk);
+            }
+
+            job.setStatus(MemberImportJob.Status.COMPLETED);
+            job.setFinishedAt(Timestamp.from(Instant.now()));
+            touch(job);
+            job = jobRepository.save(job);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Member import {} failed after {} committed records", job.getId(), job.getRecordsCommitted(), e);
+            job.setStatus(MemberImportJob.Status.FAILED);
+            job.setError(Objects.toString(e.getMessage(), e.getClass().getSimpleName()));
+            touch(job);
+            job = jobRepository.save(job);
+        } finally {
+            activeJobs.remove(job.getId());
+        }
+
+        Duration elapsed = Duration.between(started, Instant.now());
+        log.info("Member import {} {}: {} records in {} ms", job.getId(), job.getStatus(),
+                job.getRecordsCommitted() - recordsAtStart, elapsed.toMillis());
+        if (job.getRowsInserted() > 0) {
+            countService.invalidateCachedCounts();
+            eventPublisher.publishEvent(new MembersImportedEvent(job.getId(), job.getRowsInserted()));
+        }
+        return toStatus(job);
+    }
+
+    public MemberImportStatusDTO getStatus(UUID jobId) {
+        return toStatus(jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with ID: " + jobId)));
+    }
+
+    private MemberImportJob processChunk(MemberImportJob job, List<MemberImportReader.ImportRecord> chunk) {
+        // Bean validation is CPU only, so spread it over all cores
+        List<Object> outcomes = chunk.parallelStream()
+                .map(this::validate)
+                .toList();
+
+        List<StagedMember> staged = new ArrayList<>();
+        List<MemberImportRejectionDTO> rejected = new ArrayList<>();
+        for (Object outcome : outcomes) {
+            if (outcome instanceof StagedMember member) {
+                staged.add(member);
+            } else {
+                rejected.add((MemberImportRejectionDTO) outcome);
+            }
+        }
+        long lastRecord = chunk.get(chunk.size() - 1).recordNumber();
+
+        // COPY + merge + rejections + checkpoint commit together, so a resume never double counts
+        return transactionTemplate.execute(status -> {
+            int duplicates = 0;
+            if (!staged.isEmpty()) {
+                stagingRepository.copyIntoStaging(job.getId(), staged);
+                duplicates = stagingRepository.mergeStaged(job.getId());
+            }
+            if (!rejected.isEmpty()) {
+                stagingRepository.insertRejections(job.getId(), rejected);
+            }
+            // Work on a copy: if this transaction rolls back, the caller still holds the last committed checkpoint
+            MemberImportJob next = new MemberImportJob(job.getId(), job.getFormat(), job.getStatus(), lastRecord,
+                    job.getRowsInserted() + staged.size() - duplicates,
+                    job.getRowsRejected() + rejected.size() + duplicates,
+                    job.getStartedAt(), job.getUpdatedAt(), job.getFinishedAt(), job.getError());
+            touch(next);
+            return jobRepository.save(next);
+        });
+    }
+
+    // StagedMember when valid, MemberImportRejectionDTO otherwise
+    private Object validate(MemberImportReader.ImportRecord record) {
+        if (record.parseError() != null) {
+            return new MemberImportRejectionDTO(record.recordNumber(), record.parseError());
+        }
+        Set<ConstraintViolation<MemberRequestDTO>> violations = validator.validate(record.member());
+        if (!violations.isEmpty()) {
+            return new MemberImportRejectionDTO(record.recordNumber(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return new StagedMember(UUID.randomUUID(), record.recordNumber(), record.member());
+    }
+
+    private List<MemberImportReader.ImportRecord> readChunk(MemberImportReader reader) throws IOException {
+        List<MemberImportReader.ImportRecord> chunk = new ArrayList<>(chunkSize);
+        MemberImportReader.ImportRecord record;
+        while (chunk.size() < chunkSize && (record = reader.next()) != null) {
+            chunk.add(record);
+        }
+        return chunk;
+    }
+
+    private static void skipCommitted(MemberImportReader reader, long records) throws IOException {
+        for (long i = 0; i < records; i++) {
+            if (reader.next() == null) {
+                throw new IllegalArgumentException("Upload has fewer records than the job already committed (" + records + ")");
+            }
+        }
+    }
+
+    private MemberImportJob newJob(UUID jobId, MemberFileFormat format) {
+        MemberImportJob job = new MemberImportJob();
+        job.setId(jobId);
+        job.setFormat(format.name());
+        job.setStatus(MemberImportJob.Status.RUNNING);
+        job.setStartedAt(Timestamp.from(Instant.now()));
+        return job;
+    }
+
+    private MemberImportJob resumableJob(UUID jobId, MemberFileFormat format) {
+        MemberImportJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return newJob(jobId, format);
+        }
+        if (job.getStatus() == MemberImportJob.Status.COMPLETED) {
+            throw new IllegalArgumentException("Import job " + jobId + " has already completed");
+        }
+        if (!job.getFormat().equals(format.name())) {
+            throw new IllegalArgumentException("Import job " + jobId + " was started as " + job.getFormat());
+        }
+        return job;
+    }
+
+    private static void touch(MemberImportJob job) {
+        job.setUpdatedAt(Timestamp.from(Instant.now()));
+    }
+
+    private MemberImportStatusDTO toStatus(MemberImportJob job) {
+        Instant startedAt = job.getStartedAt().toInstant();
+        Instant updatedAt = job.getUpdatedAt().toInstant();
+        double seconds = Duration.between(startedAt, updatedAt).toMillis() / 1000.0;
+        double recordsPerSecond = seconds > 0 ? job.getRecordsCommitted() / seconds : 0;
+
+        List<MemberImportRejectionDTO> rejections = job.getRowsRejected() == 0
+                ? List.of()
+                : stagingRepository.findRejections(job.getId(), maxReportedRejections);
+        return new MemberImportStatusDTO(job.getId(), job.getFormat(), job.getStatus(), job.getRecordsCommitted(),
+                job.getRowsInserted(), job.getRowsRejected(), recordsPerSecond, startedAt, updatedAt,
+                job.getFinishedAt() == null ? null : job.getFinishedAt().toInstant(), job.getError(),
+                rejections, job.getRowsRejected() > rejections.size());
+    }
+}
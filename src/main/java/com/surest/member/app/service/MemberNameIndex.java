@@ -0,0 +1,439 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.dto.MemberSuggestionDTO;
+import com.surest.member.app.repository.MemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over normalized first and last names, backing GET /api/v1/members/suggest.
+ * <p>
+ * The bulk of the index is an immutable, packed segment: every name token in one sorted char array,
+ * so a prefix lookup is a binary search followed by a short forward scan. Changes published as
+ * {@link MemberChangedEvent} go to a small delta map and shadow the segment's copy of that member;
+ * once the delta grows past members.suggest.compact-threshold it is folded into a new segment.
+ * Reads never lock.
+ */
+@Service
+public class MemberNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberNameIndex.class);
+
+    public static final int MAX_LIMIT = 50;
+
+    // Upper bound on segment entries looked at per query (multi-word queries filter while scanning)
+    private static final int MAX_SCAN = 10_000;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<Match> RANKING = Comparator.comparing(Match::token)
+            .thenComparing(match -> match.member().getLastName(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(match -> match.member().getFirstName(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(match -> match.member().getId());
+
+    private final MemberRepository memberRepository;
+    private final int compactThreshold;
+    // Reloads after an import, off the import's request thread. One running and one queued is enough: the
+    // queued reload has not started yet, so it reads every import committed before it; more are dropped
+    private final ThreadPoolExecutor reloadExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("member-name-index-reload-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    private volatile State state = State.empty(Segment.EMPTY);
+    // Loads reading the table right now (guarded by this)
+    private int loadsInFlight;
+
+    public MemberNameIndex(MemberRepository memberRepository, MeterRegistry meterRegistry,
+                           @Value("${members.suggest.compact-threshold:10000}") int compactThreshold) {
+        this.memberRepository = memberRepository;
+        this.compactThreshold = compactThreshold;
+
+        Gauge.builder("members.suggest.index.bytes", this, MemberNameIndex::sizeInBytes)
+                .description("Approximate heap used by the packed name index segment")
+                .register(meterRegistry);
+        Gauge.builder("members.suggest.index.members", this, index -> index.state.base.memberCount())
+                .description("Members in the packed name index segment")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(reloadExecutor, "memberNameIndexReload", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            loadsInFlight++;
+        }
+        Segment loaded;
+        try {
+            SegmentBuilder builder = new SegmentBuilder();
+            memberRepository.forEachName(builder::add);
+            loaded = builder.build();
+            synchronized (this) {
+                // Changes that arrived while loading stay in the delta and keep shadowing the loaded rows
+                State current = state;
+                state = new State(loaded, current.delta, current.shadowed);
+            }
+        } finally {
+            synchronized (this) {
+                loadsInFlight--;
+            }
+        }
+        log.info("Loaded {} members into the name index ({} KB) in {} ms", loaded.memberCount(),
+                loaded.sizeInBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public synchronized void onMemberChanged(MemberChangedEvent event) {
+        State current = state;
+        UUID id = event.id();
+        if (event.type() == MemberChangedEvent.Type.DELETED) {
+            current.delta.remove(id);
+        } else {
+            current.delta.put(id, new MemberSuggestionDTO(id, event.member().getFirstName(), event.member().getLastName()));
+        }
+        current.shadowed.add(id);
+    }
+
+    @EventListener
+    public synchronized void onMembersDeleted(MembersDeletedEvent event) {
+        State current = state;
+        for (UUID id : event.ids()) {
+            current.delta.remove(id);
+            current.shadowed.add(id);
+        }
+    }
+
+    // Imports bypass MemberChangedEvent, so rebuild from the table, in the background: until the reload
+    // swaps in, suggestions just lack the imported members
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        reloadExecutor.execute(() -> {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                log.warn("Name index reload after import {} failed; it stays as it was", event.jobId(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloadExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${members.suggest.compact-interval:PT1M}",
+            initialDelayString = "${members.suggest.compact-interval:PT1M}")
+    public void compactIfNeeded() {
+        if (state.shadowed.size() >= compactThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Top matches for a typed query, ranked exact token first, then by matched token, last name and
+     * first name. Every word of the query must prefix-match one of the member's name tokens.
+     */
+    public List<MemberSuggestionDTO> suggest(String query, int limit) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        // The longest word narrows the scanned range the most
+        String driver = words.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        State current = state;
+
+        List<Match> matches = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        Segment base = current.base;
+        int from = base.lowerBound(driver);
+        int end = Math.min(base.tokenCount(), from + MAX_SCAN);
+        int baseMatches = 0;
+        // Segment entries are sorted by token, then last name, first name and id, so the first k accepted rows are the segment's top k
+        for (int i = from; i < end && baseMatches < k && base.tokenStartsWith(i, driver); i++) {
+            int ordinal = base.tokenMember(i);
+            UUID id = base.id(ordinal);
+            if (current.shadowed.contains(id) || !seen.add(id)) {
+                continue;
+            }
+            MemberSuggestionDTO member = base.member(ordinal);
+            if (words.size() == 1 || matchesAll(words, member)) {
+                matches.add(new Match(base.token(i), member));
+                baseMatches++;
+            }
+        }
+
+        for (MemberSuggestionDTO member : current.delta.values()) {
+            String token = bestToken(driver, member);
+            if (token != null && seen.add(member.getId()) && matchesAll(words, member)) {
+                matches.add(new Match(token, member));
+            }
+        }
+
+        matches.sort(RANKING);
+        return matches.stream().limit(k).map(Match::member).toList();
+    }
+
+    long sizeInBytes() {
+        return state.base.sizeInBytes();
+    }
+
+    synchronized void compact() {
+        // Compacting empties the delta, and a load in flight would then swap in its older snapshot
+        // without those changes; the delta is folded by the next compaction instead
+        if (loadsInFlight > 0) {
+            return;
+        }
+        State current = state;
+        SegmentBuilder builder = new SegmentBuilder();
+        Segment base = current.base;
+        for (int ordinal = 0; ordinal < base.memberCount(); ordinal++) {
+            if (!current.shadowed.contains(base.id(ordinal))) {
+                builder.add(base.member(ordinal));
+            }
+        }
+        current.delta.values().forEach(builder::add);
+        state = State.empty(builder.build());
+    }
+
+    // Replaces the whole index without the database (benchmarks)
+    synchronized void replaceAll(Iterable<MemberSuggestionDTO> members) {
+        SegmentBuilder builder = new SegmentBuilder();
+        members.forEach(builder::add);
+        state = State.empty(builder.build());
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(folded))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static List<String> tokens(MemberSuggestionDTO member) {
+        List<String> tokens = new ArrayList<>(tokenize(member.getFirstName()));
+        tokens.addAll(tokenize(member.getLastName()));
+        return tokens;
+    }
+
+    private static boolean matchesAll(List<String> words, MemberSuggestionDTO member) {
+        List<String> tokens = tokens(member);
+        return words.stream().allMatch(word -> tokens.stream().anyMatch(token -> token.startsWith(word)));
+    }
+
+    // Smallest token starting with the prefix, which is how the segment would rank this member
+    private static String bestToken(String prefix, MemberSuggestionDTO member) {
+        return tokens(member).stream()
+                .filter(token -> token.startsWith(prefix))
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    private record Match(String token, MemberSuggestionDTO member) {
+    }
+
+    private record State(Segment base, Map<UUID, MemberSuggestionDTO> delta, Set<UUID> shadowed) {
+        static State empty(Segment base) {
+            return new State(base, new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Immutable packed index: tokens sorted in one char array, member ids as two long arrays and
+     * display names in a second char array. Roughly 100 bytes per member for typical names.
+     */
+    private static final class Segment {
+
+        static final Segment EMPTY = new Segment(new char[0], new int[]{0}, new int[0],
+                new long[0], new long[0], new char[0], new int[]{0});
+
+        private final char[] tokenChars;
+        private final int[] tokenStart;
+        private final int[] tokenMember;
+        private final long[] idMsb;
+        private final long[] idLsb;
+        // first name of member i is [nameStart[2i], nameStart[2i+1]), last name up to nameStart[2i+2]
+        private final char[] nameChars;
+        private final int[] nameStart;
+
+        Segment(char[] tokenChars, int[] tokenStart, int[] tokenMember,
+                long[] idMsb, long[] idLsb, char[] nameChars, int[] nameStart) {
+            this.tokenChars = tokenChars;
+            this.tokenStart = tokenStart;
+            this.tokenMember = tokenMember;
+            this.idMsb = idMsb;
+            this.idLsb = idLsb;
+            this.nameChars = nameChars;
+            this.nameStart = nameStart;
+        }
+
+        int tokenCount() {
+            return tokenMember.length;
+        }
+
+        int memberCount() {
+            return idMsb.length;
+        }
+
+        int tokenMember(int index) {
+            return tokenMember[index];
+        }
+
+        String token(int index) {
+            return new String(tokenChars, tokenStart[index], tokenStart[index + 1] - tokenStart[index]);
+        }
+
+        UUID id(int ordinal) {
+            return new UUID(idMsb[ordinal], idLsb[ordinal]);
+        }
+
+        MemberSuggestionDTO member(int ordinal) {
+            int first = nameStart[2 * ordinal];
+            int last = nameStart[2 * ordinal + 1];
+            int end = nameStart[2 * ordinal + 2];
+            return new MemberSuggestionDTO(id(ordinal),
+                    new String(nameChars, first, last - first),
+                    new String(nameChars, last, end - last));
+        }
+
+        // First token >= prefix
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = tokenCount();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        boolean tokenStartsWith(int index, String prefix) {
+            int start = tokenStart[index];
+            if (tokenStart[index + 1] - start < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (tokenChars[start + i] != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int compare(int index, String other) {
+            int start = tokenStart[index];
+            int length = tokenStart[index + 1] - start;
+            int n = Math.min(length, other.length());
+            for (int i = 0; i < n; i++) {
+                int diff = tokenChars[start + i] - other.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length - other.length();
+        }
+
+        long sizeInBytes() {
+            return 2L * tokenChars.length + 4L * tokenStart.length + 4L * tokenMember.length
+                    + 8L * idMsb.length + 8L * idLsb.length + 2L * nameChars.length + 4L * nameStart.length;
+        }
+    }
+
+    private static final class SegmentBuilder {
+
+        private final List<MemberSuggestionDTO> members = new ArrayList<>();
+
+        void add(MemberSuggestionDTO member) {
+            members.add(member);
+        }
+
+        Segment build() {
+            int n = members.size();
+            long[] idMsb = new long[n];
+            long[] idLsb = new long[n];
+            int[] nameStart = new int[2 * n + 1];
+            StringBuilder names = new StringBuilder();
+            List<TokenRef> refs = new ArrayList<>(2 * n);
+
+            for (int ordinal = 0; ordinal < n; ordinal++) {
+                MemberSuggestionDTO member = members.get(ordinal);
+                idMsb[ordinal] = member.getId().getMostSignificantBits();
+                idLsb[ordinal] = member.getId().getLeastSignificantBits();
+                nameStart[2 * ordinal] = names.length();
+                names.append(nullToEmpty(member.getFirstName()));
+                nameStart[2 * ordinal + 1] = names.length();
+                names.append(nullToEmpty(member.getLastName()));
+                for (String token : new HashSet<>(tokens(member))) {
+                    refs.add(new TokenRef(token, ordinal));
+                }
+            }
+            nameStart[2 * n] = names.length();
+
+            // Same order as RANKING within a token, so a scan that stops after k rows has the top k
+            refs.sort(Comparator.comparing(TokenRef::token)
+                    .thenComparing(ref -> nullToEmpty(members.get(ref.ordinal()).getLastName()), String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(ref -> nullToEmpty(members.get(ref.ordinal()).getFirstName()), String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(ref -> members.get(ref.ordinal()).getId()));
+            int[] tokenStart = new int[refs.size() + 1];
+            int[] tokenMember = new int[refs.size()];
+            StringBuilder tokens = new StringBuilder();
+            for (int i = 0; i < refs.size(); i++) {
+                tokenStart[i] = tokens.length();
+                tokens.append(refs.get(i).token());
+                tokenMember[i] = refs.get(i).ordinal();
+            }
+            tokenStart[refs.size()] = tokens.length();
+
+            return new Segment(toChars(tokens), tokenStart, tokenMember, idMsb, idLsb, toChars(names), nameStart);
+        }
+
+        private static String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+
+        private static char[] toChars(StringBuilder builder) {
+            char[] chars = new char[builder.length()];
+            builder.getChars(0, builder.length(), chars, 0);
+            return chars;
+        }
+
+        private record TokenRef(String token, int ordinal) {
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.surest.member.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.surest.member.app.dto.MemberResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Result cache for member list/search pages (GET /api/v1/members), keyed by the normalized query
+ * plus a member-table version. Any member write bumps the version, so all cached pages go stale at
+ * once without scanning the cache; old entries are simply never looked up again and age out.
+ * <p>
+ * Bounded by the total number of cached rows (members.page-cache.maximum-rows), with a TTL as a
+ * backstop for writes this node never hears about. Stats are exposed as cache.* metrics
+ * (cache=memberPages). When a page with a next page is served, the next page is loaded in the
+ * background (best effort: dropped when the prefetch pool is busy).
+ */
+@Component
+public class MemberPageCache {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPageCache.class);
+
+    private final boolean enabled;
+    private final boolean prefetch;
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<Key, Slice<MemberResponseDTO>> pages;
+    private final ThreadPoolExecutor prefetchExecutor;
+    // Keys with a prefetch queued or running, so a burst of reads of page N loads N+1 only once
+    private final Set<Key> prefetching = ConcurrentHashMap.newKeySet();
+    private final Counter prefetches;
+    private final Counter prefetchesDropped;
+
+    public MemberPageCache(MeterRegistry meterRegistry,
+                           @Value("${members.page-cache.enabled:true}") boolean enabled,
+                           @Value("${members.page-cache.maximum-rows:100000}") long maximumRows,
+                           @Value("${members.page-cache.ttl:PT60S}") Duration ttl,
+                           @Value("${members.page-cache.prefetch:true}") boolean prefetch,
+                           @Value("${members.page-cache.prefetch-pool-size:2}") int prefetchPoolSize) {
+        this.enabled = enabled;
+        this.prefetch = prefetch;
+        this.pages = Caffeine.newBuilder()
+                // A page weighs its row count (plus one, so empty pages still count)
+                .<Key, Slice<MemberResponseDTO>>weigher((key, page) -> page.getNumberOfElements() + 1)
+                .maximumWeight(maximumRows)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.prefetchExecutor = new ThreadPoolExecutor(prefetchPoolSize, prefetchPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(prefetchPoolSize * 4),
+                new CustomizableThreadFactory("member-page-prefetch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "memberPages");
+        new ExecutorServiceMetrics(prefetchExecutor, "memberPagePrefetch", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("members.page-cache.version", version, AtomicLong::get)
+                .description("Member table version the page cache is keyed by")
+                .register(meterRegistry);
+        this.prefetches = Counter.builder("members.page-cache.prefetches")
+                .description("Next pages loaded in the background")
+                .register(meterRegistry);
+        this.prefetchesDropped = Counter.builder("members.page-cache.prefetches.dropped")
+                .description("Prefetches skipped because the prefetch pool was busy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached page for the query, or loads and caches it; the loader's exceptions
+     * (e.g. no members found) propagate and nothing is cached. Then prefetches the next page.
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends Slice<MemberResponseDTO>> S get(PageQuery query, Function<PageQuery, S> loader) {
+        if (!enabled) {
+            return loader.apply(query);
+        }
+        PageQuery normalized = query.normalized();
+        // Read the version before querying: a write committing meanwhile files this result under the old version
+        Key key = new Key(version.get(), normalized);
+        Slice<MemberResponseDTO> page = pages.getIfPresent(key);
+        if (page == null) {
+            page = loader.apply(normalized);
+            pages.put(key, page);
+        }
+        if (prefetch && page.hasNext()) {
+            prefetch(new Key(key.version(), normalized.next()), loader);
+        }
+        return (S) page;
+    }
+
+    private void prefetch(Key key, Function<PageQuery, ? extends Slice<MemberResponseDTO>> loader) {
+        if (pages.getIfPresent(key) != null || !prefetching.add(key)) {
+            return;
+        }
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    if (key.version() == version.get()) {
+                        pages.put(key, loader.apply(key.query()));
+                        prefetches.increment();
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("Prefetch of {} failed", key.query(), e);
+                } finally {
+                    prefetching.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            prefetching.remove(key);
+            prefetchesDropped.increment();
+        }
+    }
+
+    /**
+     * Marks every cached page stale. O(1): stale entries are evicted by size and TTL.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onMembersDeleted(MembersDeletedEvent event) {
+        invalidate();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * List/search parameters as received; {@link #normalized()} maps equivalent requests to one key.
+     */
+    public record PageQuery(int page, int size, String sort, String firstName, String lastName, CountMode countMode) {
+
+        PageQuery normalized() {
+            return new PageQuery(page, size, normalizeSort(sort), normalizeName(firstName), normalizeName(lastName), countMode);
+        }
+
+        PageQuery next() {
+            return new PageQuery(page + 1, size, sort, firstName, lastName, countMode);
+        }
+
+        // Filters match case-insensitively on the trimmed term, and blank means no filter
+        private static String normalizeName(String value) {
+            return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+
+        // "field" and "field, ASC" both mean "field,asc"; property names stay case-sensitive
+        private static String normalizeSort(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String[] parts = value.split(",");
+            return switch (parts.length) {
+                case 1 -> parts[0].trim() + ",asc";
+                case 2 -> parts[0].trim() + "," + parts[1].trim().toLowerCase(Locale.ROOT);
+                default -> value.trim();
+            };
+        }
+    }
+
+    private record Key(long version, PageQuery query) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.repository.MemberDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Physically removes soft-deleted members once they are older than members.purge.retention.
+ * Rows go in batches of members.purge.batch-size, each its own short transaction, with a pause in
+ * between and at most members.purge.max-batches per run, so purging a bulk offboarding never holds
+ * many row locks at once or writes its WAL in one burst. A backlog simply carries over to the next run.
+ */
+@Service
+public class MemberPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPurger.class);
+
+    private final MemberDeletionRepository memberDeletionRepository;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatches;
+    private final Counter purged;
+
+    public MemberPurger(MemberDeletionRepository memberDeletionRepository, MeterRegistry meterRegistry,
+                        @Value("${members.purge.enabled:true}") boolean enabled,
+                        @Value("${members.purge.retention:P7D}") Duration retention,
+                        @Value("${members.purge.batch-size:500}") int batchSize,
+                        @Value("${members.purge.pause:PT0.2S}") Duration pause,
+                        @Value("${members.purge.max-batches:200}") int maxBatches) {
+        if (batchSize < 1 || maxBatches < 1) {
+            throw new IllegalArgumentException("members.purge.batch-size and members.purge.max-batches must be positive");
+        }
+        this.memberDeletionRepository = memberDeletionRepository;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatches = maxBatches;
+        this.purged = Counter.builder("members.purge.rows")
+                .description("Soft-deleted members physically removed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${members.purge.interval:PT10M}",
+            initialDelayString = "${members.purge.interval:PT10M}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        int total = purgeBatches();
+        if (total > 0) {
+            log.info("Purged {} soft-deleted members", total);
+        }
+    }
+
+    /**
+     * Runs up to max-batches batches and returns the rows removed; stops early once a batch comes back short.
+     */
+    public int purgeBatches() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int removed = memberDeletionRepository.purge(retention, batchSize);
+            total += removed;
+            purged.increment(removed);
+            if (removed < batchSize) {
+                break;
+            }
+            if (!sleep()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // Gives replicas, vacuum and live traffic room between batches
+    private boolean sleep() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
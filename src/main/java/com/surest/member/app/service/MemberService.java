@@ -1,9 +1,12 @@
 package com.surest.member.app.service;
 
+import com.surest.member.app.dto.CursorPageDTO;
+import com.surest.member.app.dto.MemberPatchDTO;
 import com.surest.member.app.dto.MemberRequestDTO;
 import com.surest.member.app.dto.MemberResponseDTO;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
@@ -11,9 +14,24 @@ public interface MemberService {
     MemberResponseDTO createMember(MemberRequestDTO request);
     Page<MemberResponseDTO> getAllMembers(int page, int size, String sort, String firstName, String lastName);
 
+    // Page for exact/cached/estimated totals, a plain Slice (hasNext only) for CountMode.NONE
+    Slice<MemberResponseDTO> getMembers(int page, int size, String sort, String firstName, String lastName, CountMode countMode);
+
+    // Keyset pagination: empty cursor for the first page, then the nextCursor of the previous page
+    CursorPageDTO<MemberResponseDTO> getMembersAfter(String cursor, int size, String sort, String firstName, String lastName);
+
     MemberResponseDTO getMemberById(UUID id);
 
     void deleteMember(UUID id);
 
     MemberResponseDTO updateMember(UUID id, @Valid MemberRequestDTO request);
+
+    // Create-or-update keyed by email in one statement; a member that already matches is not written
+    MemberUpsertResult upsertMemberByEmail(String email, MemberRequestDTO request);
+
+    // Partial update: null fields are left unchanged; a patch that changes nothing writes nothing
+    MemberResponseDTO patchMember(UUID id, MemberPatchDTO patch);
+
+    // If-Match: throws PreconditionFailedException unless the stored member still has one of the given ETags
+    void checkVersion(UUID id, String ifMatch);
 }
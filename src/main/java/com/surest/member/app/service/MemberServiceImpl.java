@@ -1,16 +1,30 @@
 package com.surest.member.app.service;
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.CursorPageDTO;
+import com.surest.member.app.dto.MemberPatchDTO;
 import com.surest.member.app.dto.MemberRequestDTO;
 import com.surest.member.app.dto.MemberResponseDTO;
 import com.surest.member.app.entity.Member;
+import com.surest.member.app.exception.DuplicateResourceException;
+import com.surest.member.app.exception.PreconditionFailedException;
 import com.surest.member.app.exception.ResourceNotFoundException;
+import com.surest.member.app.repository.MemberDeletionRepository;
+import com.surest.member.app.repository.MemberPatchRepository;
 import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.repository.MemberUpsertRepository;
+import com.surest.member.app.util.LikePatterns;
+import com.surest.member.app.util.MemberETags;
+import com.surest.member.app.util.MemberMapper;
 import jakarta.persistence.criteria.Predicate;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -18,86 +32,217 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
-    private final ModelMapper modelMapper;
+    private final MemberCountService countService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberPageCache pageCache;
+    private final MemberPatchRepository memberPatchRepository;
+    private final MemberDeletionRepository memberDeletionRepository;
+    private final MemberUpsertRepository memberUpsertRepository;
+    private final CacheManager cacheManager;
 
     private static final Logger log = LoggerFactory.getLogger(MemberServiceImpl.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     @Autowired
-    public MemberServiceImpl(MemberRepository memberRepository, ModelMapper modelMapper) {
+    public MemberServiceImpl(MemberRepository memberRepository, MemberCountService countService,
+                             ApplicationEventPublisher eventPublisher, MemberPageCache pageCache,
+                             MemberPatchRepository memberPatchRepository,
+                             MemberDeletionRepository memberDeletionRepository,
+                             MemberUpsertRepository memberUpsertRepository, CacheManager cacheManager) {
         this.memberRepository = memberRepository;
-        this.modelMapper = modelMapper;
+        this.countService = countService;
+        this.eventPublisher = eventPublisher;
+        this.pageCache = pageCache;
+        this.memberPatchRepository = memberPatchRepository;
+        this.memberDeletionRepository = memberDeletionRepository;
+        this.memberUpsertRepository = memberUpsertRepository;
+        this.cacheManager = cacheManager;
     }
 
     @Override
+    @CachePut(value = CacheConfig.MEMBERS, key = "#result.id")
     public MemberResponseDTO createMember(MemberRequestDTO request) {
-        if (memberRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists");
-        }
-        Member member = new Member();
-        member.setFirstName(request.getFirstName());
-        member.setLastName(request.getLastName());
-        member.setEmail(request.getEmail());
-        member.setDateOfBirth(request.getDateOfBirth());
-
-        Member savedMember = memberRepository.save(member);
-
-        // Map Entity → ResponseDTO manually
-        MemberResponseDTO response = new MemberResponseDTO();
-        response.setId(savedMember.getId());
-        response.setFirstName(savedMember.getFirstName());
-        response.setLastName(savedMember.getLastName());
-        response.setEmail(savedMember.getEmail());
-        response.setDateOfBirth(savedMember.getDateOfBirth());
+        // One INSERT ... ON CONFLICT DO NOTHING: a taken email, even one taken by a concurrent create, yields no row
+        MemberResponseDTO response = memberUpsertRepository.insert(request)
+                .orElseThrow(() -> new DuplicateResourceException("Email already exists"));
+        countService.invalidateCachedCounts();
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, response.getId(), response));
         return response;
 
     }
 
+    @Override
+    public MemberUpsertResult upsertMemberByEmail(String email, MemberRequestDTO request) {
+        if (!email.equals(request.getEmail())) {
+            throw new IllegalArgumentException("Email in the body must match the email in the path");
+        }
+        // A second run only happens when the statement lost a race it could not see (see MemberUpsertRepository)
+        MemberUpsertRepository.Result result = memberUpsertRepository.upsert(email, request)
+                .or(() -> memberUpsertRepository.upsert(email, request))
+                .orElseThrow(() -> new DuplicateResourceException("Member " + email + " is being modified concurrently"));
+
+        MemberResponseDTO member = result.member();
+        switch (result.outcome()) {
+            case CREATED -> {
+                countService.invalidateCachedCounts();
+                cacheManager.getCache(CacheConfig.MEMBERS).put(member.getId(), member);
+                eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, member.getId(), member));
+            }
+            case UPDATED -> {
+                countService.invalidateCachedCounts();
+                cacheManager.getCache(CacheConfig.MEMBERS).put(member.getId(), member);
+                eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, member.getId(), member));
+            }
+            case UNCHANGED -> {
+                // Nothing was written, as for a no-op PATCH
+            }
+        }
+        return new MemberUpsertResult(member, result.outcome() == MemberUpsertRepository.Outcome.CREATED);
+    }
+
 
     @Override
     public Page<MemberResponseDTO> getAllMembers(int page, int size, String sortStr, String firstName, String lastName) {
-        Sort sort = buildSort(sortStr);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        // Same key as getMembers(..., EXACT), which also yields a Page
+        return pageCache.get(new MemberPageCache.PageQuery(page, size, sortStr, firstName, lastName, CountMode.EXACT),
+                query -> countedPage(PageRequest.of(query.page(), query.size(), buildSort(query.sort())),
+                        query.firstName(), query.lastName(), CountMode.EXACT));
+    }
+
+    @Override
+    public Slice<MemberResponseDTO> getMembers(int page, int size, String sortStr, String firstName, String lastName,
+                                               CountMode countMode) {
+        return pageCache.get(new MemberPageCache.PageQuery(page, size, sortStr, firstName, lastName, countMode), this::loadPage);
+    }
+
+    private Slice<MemberResponseDTO> loadPage(MemberPageCache.PageQuery query) {
+        int size = query.size();
+        String firstName = query.firstName();
+        String lastName = query.lastName();
+        Pageable pageable = PageRequest.of(query.page(), size, buildSort(query.sort()));
+        if (query.countMode() != CountMode.NONE) {
+            return countedPage(pageable, firstName, lastName, query.countMode());
+        }
+
+        // No total: fetch one extra row to know whether another page exists
+        List<MemberResponseDTO> rows = memberRepository.findContent(nameFilter(firstName, lastName), pageable, size + 1);
+        List<MemberResponseDTO> content = toResponses(rows, size, firstName, lastName);
+        return new SliceImpl<>(content, pageable, rows.size() > size);
+    }
+
+    // Count and content queries run concurrently; the total comes from countService per mode
+    private Page<MemberResponseDTO> countedPage(Pageable pageable, String firstName, String lastName, CountMode countMode) {
+        Specification<Member> spec = nameFilter(firstName, lastName);
+        CompletableFuture<Long> total = countService.countAsync(countMode, spec, firstName, lastName);
+
+        List<MemberResponseDTO> rows = memberRepository.findContent(spec, pageable, pageable.getPageSize());
+        List<MemberResponseDTO> content = toResponses(rows, pageable.getPageSize(), firstName, lastName);
+        return new PageImpl<>(content, pageable, countService.await(total));
+    }
+
+    // Rows are already DTO projections; only the look-ahead row is dropped
+    private List<MemberResponseDTO> toResponses(List<MemberResponseDTO> rows, int size, String firstName, String lastName) {
+        if (rows.isEmpty() && hasFilters(firstName, lastName)) {
+            throw new ResourceNotFoundException("No members found for given search criteria");
+        }
+        return rows.size() > size ? rows.subList(0, size) : rows;
+    }
+
+    @Override
+    public CursorPageDTO<MemberResponseDTO> getMembersAfter(String cursor, int size, String sortStr, String firstName, String lastName) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        MemberCursor.SortKey sort = MemberCursor.parseSort(sortStr);
+        MemberCursor.Position position = (cursor == null || cursor.isBlank())
+                ? null
+                : MemberCursor.decode(cursor, sort);
 
-        Page<Member> memberPage = hasFilters(firstName, lastName)
-                ? getFilteredMembers(firstName, lastName, pageable)
-                : memberRepository.findAll(pageable);
+        // Fetch one extra row to know whether another page exists, no COUNT(*)
+        List<MemberResponseDTO> rows = memberRepository.findPageAfter(sort.field(), sort.ascending(),
+                position != null ? position.value() : null,
+                position != null ? position.lastId() : null,
+                firstName, lastName, size + 1);
 
-        return memberPage.map(member -> modelMapper.map(member, MemberResponseDTO.class));    }
+        boolean hasNext = rows.size() > size;
+        List<MemberResponseDTO> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? MemberCursor.encode(sort, content.get(content.size() - 1)) : null;
+        return new CursorPageDTO<>(content, nextCursor);
+    }
 
 
-    @Cacheable(value = "members", key = "#id")
+    // sync: concurrent misses for one id share a single load, which also feeds the cache.load metrics
+    @Cacheable(value = CacheConfig.MEMBERS, key = "#id", sync = true)
     public MemberResponseDTO getMemberById(UUID id) {
         log.info("Fetching from DB for ID: {}", id);
 
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found with ID: " + id));
-        return modelMapper.map(member, MemberResponseDTO.class);
+        return MemberMapper.toResponse(member);
     }
 
     @Override
-    @CacheEvict(value = "members", key = "#id")
+    // Write-through: the next read of an edited member is a hit, not a reload
+    @CachePut(value = CacheConfig.MEMBERS, key = "#id")
     public MemberResponseDTO updateMember(UUID id, MemberRequestDTO request) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Member not found"));
-        member.setFirstName(request.getFirstName());
-        member.setLastName(request.getLastName());
-        member.setEmail(request.getEmail());
-        member.setDateOfBirth(request.getDateOfBirth());
+        MemberMapper.applyTo(request, member);
         Member updatedMember = memberRepository.save(member);
-        return modelMapper.map(updatedMember, MemberResponseDTO.class);
+        // A rename moves the member in or out of name-filtered totals
+        countService.invalidateCachedCounts();
+        MemberResponseDTO response = MemberMapper.toResponse(updatedMember);
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, id, response));
+        return response;
+    }
+
+    @Override
+    public MemberResponseDTO patchMember(UUID id, MemberPatchDTO patch) {
+        MemberPatchRepository.Result result;
+        try {
+            result = memberPatchRepository.patch(id, patch)
+                    .orElseThrow(() -> new ResourceNotFoundException("Member not found with ID: " + id));
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateResourceException("Email already exists");
+        }
+        if (!result.changed()) {
+            // Nothing was written: the cached entry, the pages and other replicas are all still current
+            return result.member();
+        }
+        countService.invalidateCachedCounts();
+        // Write-through like PUT; not @CachePut, which cannot tell a no-op from a change
+        cacheManager.getCache(CacheConfig.MEMBERS).put(id, result.member());
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, id, result.member()));
+        return result.member();
     }
 
     @Override
-    @CacheEvict(value = "members", key = "#id")
+    public void checkVersion(UUID id, String ifMatch) {
+        // Read from the table, not the cache: a stale cached version must not let a stale write through
+        String current = memberRepository.findUpdatedAtById(id)
+                .map(updatedAt -> MemberETags.of(id, updatedAt))
+                .orElseThrow(() -> new ResourceNotFoundException("Member not found with ID: " + id));
+        if (!MemberETags.matches(ifMatch, current)) {
+            throw new PreconditionFailedException("Member " + id + " has been modified (current ETag " + current + ")");
+        }
+    }
+
+    @Override
+    @CacheEvict(value = CacheConfig.MEMBERS, key = "#id")
+    // Soft delete as one UPDATE ... RETURNING: no prior load, and the returned row is the event snapshot.
+    // MemberPurger removes the row itself later
     public void deleteMember(UUID id) {
-        Member member = memberRepository.findById(id)
+        MemberResponseDTO deleted = memberDeletionRepository.softDelete(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found with ID: " + id));
-        memberRepository.delete(member);
+        countService.invalidateCachedCounts();
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, id, deleted));
     }
 
     private Sort buildSort(String sortStr) {
@@ -118,27 +263,24 @@ public class MemberServiceImpl implements MemberService {
                 || (lastName != null && !lastName.isBlank());
     }
 
-    private Page<Member> getFilteredMembers(String firstName, String lastName, Pageable pageable) {
-        Specification<Member> spec = (root, query, cb) -> {
+    // null when there are no filters, so the unfiltered queries stay predicate-free.
+    // lower(column) LIKE matches the trigram index expressions, so filtered searches avoid a seq scan
+    private Specification<Member> nameFilter(String firstName, String lastName) {
+        if (!hasFilters(firstName, lastName)) {
+            return null;
+        }
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (firstName != null && !firstName.isBlank()) {
-                predicates.add(cb.like(cb.lower(root.get("firstName")), "%" + firstName.toLowerCase() + "%"));
+                predicates.add(cb.like(cb.lower(root.get("firstName")), LikePatterns.containsIgnoreCase(firstName), LikePatterns.ESCAPE));
             }
             if (lastName != null && !lastName.isBlank()) {
-                predicates.add(cb.like(cb.lower(root.get("lastName")), "%" + lastName.toLowerCase() + "%"));
+                predicates.add(cb.like(cb.lower(root.get("lastName")), LikePatterns.containsIgnoreCase(lastName), LikePatterns.ESCAPE));
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-
-        Page<Member> memberPage = memberRepository.findAll(spec, pageable);
-
-        if (memberPage.isEmpty()) {
-            throw new ResourceNotFoundException("No members found for given search criteria");
-        }
-
-        return memberPage;
     }
 
 }
\ No newline at end of file
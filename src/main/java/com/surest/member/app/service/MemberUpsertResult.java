@@ -0,0 +1,9 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+
+/**
+ * Outcome of PUT /api/v1/members/by-email/{email}: the member as stored, and whether it was created.
+ */
+public record MemberUpsertResult(MemberResponseDTO member, boolean created) {
+}
@@ -0,0 +1,11 @@
+package com.surest.member.app.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by {@link MemberBulkService} after a bulk delete has marked members deleted. Like
+ * {@link MembersImportedEvent}, one event per batch of rows instead of a {@link MemberChangedEvent} each.
+ */
+public record MembersDeletedEvent(List<UUID> ids) {
+}
@@ -0,0 +1,10 @@
+package com.surest.member.app.service;
+
+import java.util.UUID;
+
+/**
+ * Published by {@link MemberImportService} once an import run has inserted rows. Imports write
+ * with set-based SQL, so listeners get one event per run instead of a {@link MemberChangedEvent} per row.
+ */
+public record MembersImportedEvent(UUID jobId, long rowsInserted) {
+}
@@ -0,0 +1,132 @@
+package com.surest.member.app.service;
+
+import com.surest.member.app.dto.RegisterRequestDTO;
+import com.surest.member.app.dto.RegistrationResultDTO;
+import com.surest.member.app.dto.RegistrationResultDTO.Status;
+import com.surest.member.app.entity.Role;
+import com.surest.member.app.entity.User;
+import com.surest.member.app.repository.RoleRepository;
+import com.surest.member.app.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch onboarding: one role lookup, one set-based duplicate check, parallel BCrypt
+ * and a single batched insert for the whole list.
+ */
+@Service
+public class UserRegistrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserRegistrationService.class);
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+    private final Validator validator;
+    private final int maxBatchSize;
+
+    public UserRegistrationService(UserRepository userRepository, RoleRepository roleRepository,
+                                   PasswordEncoder passwordEncoder, CustomUserDetailsService userDetailsService,
+                                   Validator validator,
+                                   @Value("${auth.register.batch.max-size:5000}") int maxBatchSize) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public List<RegistrationResultDTO> registerBatch(List<RegisterRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one user is required");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size exceeds the limit of " + maxBatchSize);
+        }
+
+        // Resolve roles once for the whole batch
+        Map<String, Role> roles = roleRepository.findAll().stream()
+                .collect(Collectors.toMap(Role::getRoleName, Function.identity()));
+
+        // One query for every username already taken
+        Set<String> requestedNames = requests.stream()
+                .map(RegisterRequestDTO::getUsername)
+                .filter(name -> name != null && !name.isBlank())
+                .collect(Collectors.toSet());
+        Set<String> existing = requestedNames.isEmpty() ? Set.of() : userRepository.findExistingUsernames(requestedNames);
+
+        RegistrationResultDTO[] results = new RegistrationResultDTO[requests.size()];
+        Map<Integer, Role> accepted = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterRequestDTO request = requests.get(i);
+            String error = validate(request);
+            if (error != null) {
+                results[i] = new RegistrationResultDTO(request == null ? null : request.getUsername(), Status.INVALID, error);
+            } else if (existing.contains(request.getUsername()) || !seen.add(request.getUsername())) {
+                results[i] = new RegistrationResultDTO(request.getUsername(), Status.DUPLICATE, "Username already exists");
+            } else if (!roles.containsKey(request.getRoleName())) {
+                results[i] = new RegistrationResultDTO(request.getUsername(), Status.INVALID, "Role not found");
+            } else {
+                accepted.put(i, roles.get(request.getRoleName()));
+            }
+        }
+
+        // BCrypt dominates the cost, spread it over all cores
+        List<Integer> indexes = new ArrayList<>(accepted.keySet());
+        Map<Integer, String> hashes = indexes.parallelStream()
+                .collect(Collectors.toConcurrentMap(Function.identity(),
+                        i -> passwordEncoder.encode(requests.get(i).getPassword())));
+
+        List<User> users = new ArrayList<>(indexes.size());
+        for (Integer i : indexes) {
+            User user = new User();
+            user.setUsername(requests.get(i).getUsername());
+            user.setPasswordHash(hashes.get(i));
+            user.setRole(accepted.get(i));
+            users.add(user);
+        }
+
+        // Single transaction, inserts grouped by hibernate.jdbc.batch_size
+        userRepository.saveAll(users);
+
+        for (Integer i : indexes) {
+            String username = requests.get(i).getUsername();
+            userDetailsService.evict(username);
+            results[i] = new RegistrationResultDTO(username, Status.CREATED, "User registered successfully");
+        }
+
+        log.info("Batch registration: {} requested, {} created", requests.size(), indexes.size());
+        return List.of(results);
+    }
+
+    private String validate(RegisterRequestDTO request) {
+        if (request == null) {
+            return "Request is empty";
+        }
+        Set<ConstraintViolation<RegisterRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,96 @@
+package com.surest.member.app.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe counting Bloom filter over strings: like {@link BloomFilter}, but each slot is a 4-bit
+ * counter (16 per long), so values can be removed again. Sized and hashed the same way, at four times
+ * the memory. A counter that reaches 15 sticks there; it is never decremented, which can only leave a
+ * false positive behind, never a false negative.
+ * <p>
+ * Removing a value that was never added can clear slots other values depend on, so callers must only
+ * remove what they added.
+ */
+public class CountingBloomFilter {
+
+    private static final long MAX_COUNT = 15;
+
+    private final AtomicLongArray counters;
+    private final int counterCount;
+    private final int hashCount;
+
+    public CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counterCount = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 15L));
+        this.hashCount = Math.max(1, (int) Math.round((double) counterCount / n * Math.log(2)));
+        this.counters = new AtomicLongArray((counterCount + 15) / 16);
+    }
+
+    public void add(String value) {
+        long hash = Hashing.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            increment(Math.floorMod(h1 + i * h2, counterCount));
+        }
+    }
+
+    public void remove(String value) {
+        // Definitely absent: nothing of this value to take out
+        if (!mightContain(value)) {
+            return;
+        }
+        long hash = Hashing.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            decrement(Math.floorMod(h1 + i * h2, counterCount));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = Hashing.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, counterCount);
+            if (count(counters.get(index >>> 4), index) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long sizeInBytes() {
+        return (long) counters.length() * Long.BYTES;
+    }
+
+    private void increment(int index) {
+        int word = index >>> 4;
+        long one = 1L << shift(index);
+        long current;
+        do {
+            current = counters.get(word);
+        } while (count(current, index) < MAX_COUNT && !counters.compareAndSet(word, current, current + one));
+    }
+
+    private void decrement(int index) {
+        int word = index >>> 4;
+        long one = 1L << shift(index);
+        long current;
+        long count;
+        do {
+            current = counters.get(word);
+            count = count(current, index);
+        } while (count > 0 && count < MAX_COUNT && !counters.compareAndSet(word, current, current - one));
+    }
+
+    private static long count(long word, int index) {
+        return (word >>> shift(index)) & 0xF;
+    }
+
+    private static int shift(int index) {
+        return (index & 15) << 2;
+    }
+}
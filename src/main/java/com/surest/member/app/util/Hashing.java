@@ -0,0 +1,22 @@
+package com.surest.member.app.util;
+
+/**
+ * 64-bit string hash (FNV-1a over UTF-16 chars, finished with the SplitMix64 mixer)
+ * used by the in-memory probabilistic filters.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    public static long hash64(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
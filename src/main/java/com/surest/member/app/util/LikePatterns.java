@@ -0,0 +1,31 @@
+package com.surest.member.app.util;
+
+import java.util.Locale;
+
+/**
+ * LIKE patterns for the case-insensitive name filters. Queries must compare against lower(column)
+ * so the pg_trgm indexes on lower(first_name) / lower(last_name) apply (see V2 migration).
+ */
+public final class LikePatterns {
+
+    public static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    /**
+     * "%term%" in lower case, with % and _ in the user's input matched literally.
+     */
+    public static String containsIgnoreCase(String term) {
+        String lower = term.trim().toLowerCase(Locale.ROOT);
+        StringBuilder pattern = new StringBuilder(lower.length() + 2).append('%');
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
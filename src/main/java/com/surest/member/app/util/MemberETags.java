@@ -0,0 +1,73 @@
+package com.surest.member.app.util;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Strong ETags for member responses, computed from id + updatedAt only, so a conditional GET can be
+ * answered without serializing the body. This relies on every member write path setting updated_at:
+ * JPA saves through @UpdateTimestamp, and the SQL writes (patch, upsert, import merge, soft delete) with
+ * updated_at = now().
+ * A page tag digests its rows' tags together with the paging metadata that ends up in the body.
+ * Returns null when a version is unknown (no updatedAt), in which case no ETag is sent.
+ */
+public final class MemberETags {
+
+    private MemberETags() {
+    }
+
+    public static String of(MemberResponseDTO member) {
+        return of(member.getId(), member.getUpdatedAt());
+    }
+
+    public static String of(UUID id, Timestamp updatedAt) {
+        if (id == null || updatedAt == null) {
+            return null;
+        }
+        return quote(Hashing.hash64(id + "@" + micros(updatedAt)));
+    }
+
+    /**
+     * Tag for a list response: the rows in order plus the given metadata (page number, totals, cursor...).
+     */
+    public static String ofPage(List<MemberResponseDTO> rows, Object... metadata) {
+        StringBuilder digest = new StringBuilder(rows.size() * 56 + 32);
+        for (Object value : metadata) {
+            digest.append(value).append('|');
+        }
+        for (MemberResponseDTO row : rows) {
+            if (row.getId() == null || row.getUpdatedAt() == null) {
+                return null;
+            }
+            digest.append(row.getId()).append('@').append(micros(row.getUpdatedAt())).append(';');
+        }
+        return quote(Hashing.hash64(digest));
+    }
+
+    /**
+     * Strong comparison for If-Match: "*" or any listed tag equal to the current one; weak tags never match.
+     */
+    public static boolean matches(String ifMatch, String current) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The column keeps microseconds; a freshly written entity may carry more precision than a re-read one
+    private static long micros(Timestamp updatedAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant());
+    }
+
+    private static String quote(long hash) {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+}
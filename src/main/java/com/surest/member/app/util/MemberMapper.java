@@ -0,0 +1,37 @@
+package com.surest.member.app.util;
+
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.entity.Member;
+
+/**
+ * The only Member &lt;-&gt; DTO mapping in the app: plain field copies, no reflection or type-map lookups.
+ * dateOfBirth is a LocalDate end to end (Jackson parses yyyy-MM-dd on the way in), so it is copied
+ * as is; id and the timestamps are left to JPA.
+ */
+public final class MemberMapper {
+
+    private MemberMapper() {
+    }
+
+    public static Member toEntity(MemberRequestDTO request) {
+        Member member = new Member();
+        applyTo(request, member);
+        return member;
+    }
+
+    /**
+     * Overwrites the editable fields of an existing member (PUT semantics).
+     */
+    public static void applyTo(MemberRequestDTO request, Member member) {
+        member.setFirstName(request.getFirstName());
+        member.setLastName(request.getLastName());
+        member.setEmail(request.getEmail());
+        member.setDateOfBirth(request.getDateOfBirth());
+    }
+
+    public static MemberResponseDTO toResponse(Member member) {
+        return new MemberResponseDTO(member.getId(), member.getFirstName(), member.getLastName(),
+                member.getEmail(), member.getDateOfBirth(), member.getUpdatedAt());
+    }
+}
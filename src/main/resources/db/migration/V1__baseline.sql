@@ -0,0 +1,34 @@
+-- Baseline: the schema previously produced by spring.jpa.hibernate.ddl-auto=update.
+-- Databases that already have these tables are baselined at V1 (spring.flyway.baseline-on-migrate).
+
+CREATE SCHEMA IF NOT EXISTS surest;
+
+CREATE TABLE IF NOT EXISTS surest.role (
+    id        uuid        NOT NULL,
+    role_name varchar(50) NOT NULL,
+    CONSTRAINT pk_role PRIMARY KEY (id),
+    CONSTRAINT uk_role_role_name UNIQUE (role_name)
+);
+
+CREATE TABLE IF NOT EXISTS surest."user" (
+    id            uuid         NOT NULL,
+    username      varchar(50)  NOT NULL,
+    password_hash varchar(255) NOT NULL,
+    role_id       uuid         NOT NULL,
+    CONSTRAINT pk_user PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT fk_user_role FOREIGN KEY (role_id) REFERENCES surest.role (id)
+);
+
+CREATE TABLE IF NOT EXISTS surest.member (
+    id            uuid         NOT NULL,
+    first_name    varchar(100) NOT NULL,
+    last_name     varchar(100) NOT NULL,
+    date_of_birth date         NOT NULL,
+    email         varchar(255) NOT NULL,
+    created_at    timestamp(6) NOT NULL,
+    updated_at    timestamp(6) NOT NULL,
+    CONSTRAINT pk_member PRIMARY KEY (id),
+    -- Unique index also serves the existsByEmail lookup on create
+    CONSTRAINT uk_member_email UNIQUE (email)
+);
@@ -0,0 +1,13 @@
+-- Trigram indexes for the case-insensitive substring filters on GET /api/v1/members:
+-- lower(first_name) LIKE '%x%' and lower(last_name) LIKE '%x%' can use a bitmap index scan
+-- instead of a sequential scan. The indexed expression must match the query exactly.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS ix_member_first_name_trgm
+    ON surest.member USING gin (lower(first_name) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS ix_member_last_name_trgm
+    ON surest.member USING gin (lower(last_name) public.gin_trgm_ops);
+
+ANALYZE surest.member;
@@ -0,0 +1,38 @@
+-- Streaming member import jobs (POST /api/v1/members/imports).
+-- A job's checkpoint (records_committed) is updated in the same transaction as the chunk it covers,
+-- so a failed import resumes right after the last committed chunk.
+
+CREATE TABLE IF NOT EXISTS surest.member_import_job (
+    id                uuid          NOT NULL,
+    format            varchar(10)   NOT NULL,
+    status            varchar(20)   NOT NULL,
+    records_committed bigint        NOT NULL DEFAULT 0,
+    rows_inserted     bigint        NOT NULL DEFAULT 0,
+    rows_rejected     bigint        NOT NULL DEFAULT 0,
+    started_at        timestamp(6)  NOT NULL,
+    updated_at        timestamp(6)  NOT NULL,
+    finished_at       timestamp(6),
+    error             varchar(1000),
+    CONSTRAINT pk_member_import_job PRIMARY KEY (id)
+);
+
+-- COPY target; rows only live for the duration of one chunk transaction, so skip the WAL
+CREATE UNLOGGED TABLE IF NOT EXISTS surest.member_import_staging (
+    id            uuid         NOT NULL,
+    job_id        uuid         NOT NULL,
+    record_number bigint       NOT NULL,
+    first_name    varchar(100) NOT NULL,
+    last_name     varchar(100) NOT NULL,
+    date_of_birth date         NOT NULL,
+    email         varchar(255) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_member_import_staging_job ON surest.member_import_staging (job_id);
+
+CREATE TABLE IF NOT EXISTS surest.member_import_rejection (
+    job_id        uuid          NOT NULL,
+    record_number bigint        NOT NULL,
+    reason        varchar(1000) NOT NULL,
+    CONSTRAINT pk_member_import_rejection PRIMARY KEY (job_id, record_number),
+    CONSTRAINT fk_member_import_rejection_job FOREIGN KEY (job_id) REFERENCES surest.member_import_job (id) ON DELETE CASCADE
+);
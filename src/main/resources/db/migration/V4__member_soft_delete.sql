@@ -0,0 +1,33 @@
+-- Soft delete for members: DELETE /api/v1/members[/{id}] only sets deleted_at, and MemberPurger
+-- removes the tombstones later in small batches. The application reads live rows only (deleted_at IS NULL).
+
+ALTER TABLE surest.member ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+
+-- Email is unique among live members only, so a removed member's email can be registered again.
+-- The old constraint is uk_member_email when V1 created the table, but carries a Hibernate-generated name
+-- on databases baselined from a ddl-auto schema, so drop whatever single-column unique constraint is on email
+DO $$
+DECLARE
+    email_constraint name;
+BEGIN
+    FOR email_constraint IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = 'surest.member'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'email'
+    LOOP
+        EXECUTE format('ALTER TABLE surest.member DROP CONSTRAINT %I', email_constraint);
+    END LOOP;
+END
+$$;
+
+-- Partial index on live rows; it also serves existsByEmail and the duplicate checks on create and import
+CREATE UNIQUE INDEX IF NOT EXISTS ux_member_email_live
+    ON surest.member (email) WHERE deleted_at IS NULL;
+
+-- Purge takes the oldest tombstones first; only soft-deleted rows are indexed, so live writes do not pay for it
+CREATE INDEX IF NOT EXISTS ix_member_deleted_at
+    ON surest.member (deleted_at) WHERE deleted_at IS NOT NULL;
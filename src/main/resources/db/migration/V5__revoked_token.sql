@@ -0,0 +1,13 @@
+-- Token revocation (POST /auth/logout): revoked token IDs until their expiry.
+-- Not part of the V1 baseline: databases created before Flyway do not have this table.
+
+CREATE TABLE IF NOT EXISTS surest.revoked_token (
+    token_id   varchar(64)  NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    revoked_at timestamp(6) NOT NULL,
+    CONSTRAINT pk_revoked_token PRIMARY KEY (token_id)
+);
+
+-- Token purge deletes by expiry
+CREATE INDEX IF NOT EXISTS ix_revoked_token_expires_at
+    ON surest.revoked_token (expires_at);
@@ -0,0 +1,14 @@
+-- Keyset pagination (GET /api/v1/members?cursor=...) seeks on (sort column, id) and orders by the same pair,
+-- so each cursor sort needs a matching index for a page to be an index range scan rather than a sort of
+-- the whole table. Live rows only, like the queries (deleted_at IS NULL); descending sorts scan backwards.
+-- id is the primary key. email is served by ux_member_email_live (V4): emails are unique among live rows,
+-- so its order is already the (email, id) order and the id tie-breaker only costs an incremental sort of single rows.
+
+CREATE INDEX IF NOT EXISTS ix_member_last_name_id
+    ON surest.member (last_name, id) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS ix_member_first_name_id
+    ON surest.member (first_name, id) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS ix_member_date_of_birth_id
+    ON surest.member (date_of_birth, id) WHERE deleted_at IS NULL;
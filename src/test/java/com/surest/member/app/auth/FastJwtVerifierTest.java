@@ -0,0 +1,91 @@
+package com.surest.member.app.auth;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastJwtVerifierTest {
+
+    private final SecretKey testKey = Keys.hmacShaKeyFor("mysecretkeymysecretkeymysecretkey12".getBytes());
+
+    private JwtUtil jwtUtil;
+    // Left on the default verifier, as the reference the fast path must agree with
+    private JwtUtil jjwtUtil;
+    private FastJwtVerifier fastVerifier;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "key", testKey);
+        jwtUtil.setVerifier("fast");
+        jjwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jjwtUtil, "key", testKey);
+        fastVerifier = new FastJwtVerifier(testKey);
+    }
+
+    @Test
+    void testFastPathMatchesJjwtForGeneratedTokens() {
+        String token = jwtUtil.generateToken("archana", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+        JwtPrincipal fast = fastVerifier.verify(token);
+
+        assertNotNull(fast);
+        assertEquals("archana", fast.username());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), fast.roles());
+        assertEquals(jjwtUtil.verify(token), fast);
+        assertEquals(jjwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void testTamperedSignatureFallsBackAndIsRejected() {
+        String token = jwtUtil.generateToken("archana", List.of("ROLE_USER"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(fastVerifier.verify(tampered));
+        assertThrows(Exception.class, () -> jwtUtil.verify(tampered));
+    }
+
+    @Test
+    void testExpiredTokenFallsBackToJjwtException() {
+        String expired = Jwts.builder()
+                .setSubject("archana")
+                .claim("roles", List.of("ROLE_USER"))
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(testKey)
+                .compact();
+
+        assertNull(fastVerifier.verify(expired));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(expired));
+    }
+
+    @Test
+    void testUnknownClaimsAreHandledByJjwt() {
+        String token = Jwts.builder()
+                .setSubject("archana")
+                .setIssuer("someone-else")
+                .claim("roles", List.of("ROLE_USER"))
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(testKey)
+                .compact();
+
+        assertNull(fastVerifier.verify(token));
+        assertEquals("archana", jwtUtil.verify(token).username());
+    }
+
+    @Test
+    void testMalformedTokensReturnNull() {
+        assertNull(fastVerifier.verify("invalid.jwt.token"));
+        assertNull(fastVerifier.verify("bad.token"));
+        assertNull(fastVerifier.verify(""));
+    }
+}
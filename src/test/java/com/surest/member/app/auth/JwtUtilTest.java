@@ -41,6 +41,18 @@ class JwtUtilTest {
         assertEquals(2, extractedRoles.size());
     }
 
+    @Test
+    void testVerify_ReturnsSubjectRolesAndExpiry() {
+        String token = jwtUtil.generateToken("testuser", List.of("ROLE_USER"));
+
+        JwtPrincipal principal = jwtUtil.verify(token);
+
+        assertEquals("testuser", principal.username());
+        assertEquals(Set.of("ROLE_USER"), principal.roles());
+        assertNotNull(principal.expiresAt());
+        assertTrue(principal.expiresAt().isAfter(java.time.Instant.now()));
+    }
+
     @Test
     void testGetRoles_WhenRolesMissing_ReturnsEmptySet() {
         // Arrange
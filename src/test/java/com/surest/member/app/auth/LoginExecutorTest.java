@@ -0,0 +1,78 @@
+package com.surest.member.app.auth;
+
+import com.surest.member.app.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginExecutor loginExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // one worker + one queued login
+        loginExecutor = new LoginExecutor(meterRegistry, 1, 1, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    void testSubmitReturnsTaskResult() {
+        assertEquals("ok", loginExecutor.submit(() -> "ok"));
+    }
+
+    @Test
+    void testSubmitRethrowsAuthenticationFailure() {
+        assertThrows(BadCredentialsException.class, () -> loginExecutor.submit(() -> {
+            throw new BadCredentialsException("bad");
+        }));
+    }
+
+    @Test
+    void testSaturatedPoolRejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<String> running = callers.submit(() -> loginExecutor.submit(() -> await(release)));
+        Future<String> queued = callers.submit(() -> loginExecutor.submit(() -> await(release)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loginExecutor.queueDepth() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, loginExecutor.queueDepth());
+
+        assertThrows(ServiceBusyException.class, () -> loginExecutor.submit(() -> "too many"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("done", running.get(5, TimeUnit.SECONDS));
+        assertEquals("done", queued.get(5, TimeUnit.SECONDS));
+        callers.shutdown();
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
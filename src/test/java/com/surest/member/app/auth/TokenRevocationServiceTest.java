@@ -0,0 +1,67 @@
+package com.surest.member.app.auth;
+
+import com.surest.member.app.entity.RevokedToken;
+import com.surest.member.app.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    private RevokedTokenRepository repository;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        service = new TokenRevocationService(repository, new SimpleMeterRegistry(), 1_000, 0.01);
+    }
+
+    @Test
+    void testRevokedTokenIsDetectedWithoutDatabaseLookup() {
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+
+        service.revoke("jti-1", expiresAt);
+
+        assertTrue(service.isRevoked("jti-1"));
+        assertFalse(service.isRevoked("jti-2"));
+        assertFalse(service.isRevoked(null));
+        verify(repository, times(1)).save(any(RevokedToken.class));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testStartupAndSyncLoadOnlyActiveRevocations() {
+        Instant now = Instant.now();
+        when(repository.findByRevokedAtGreaterThanEqual(any())).thenReturn(List.of(
+                new RevokedToken("active", Timestamp.from(now.plus(1, ChronoUnit.HOURS)), Timestamp.from(now)),
+                new RevokedToken("expired", Timestamp.from(now.minus(1, ChronoUnit.HOURS)), Timestamp.from(now))
+        ));
+
+        service.loadActiveRevocations();
+
+        assertTrue(service.isRevoked("active"));
+        assertFalse(service.isRevoked("expired"));
+    }
+
+    @Test
+    void testPurgeDropsExpiredRevocations() {
+        service.remember("old", Instant.now().minusSeconds(1));
+        service.remember("live", Instant.now().plus(1, ChronoUnit.HOURS));
+
+        service.purgeExpired();
+
+        verify(repository, times(1)).deleteExpired(any());
+        assertFalse(service.isRevoked("old"));
+        assertTrue(service.isRevoked("live"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.surest.member.app.auth;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final Key testKey = Keys.hmacShaKeyFor("mysecretkeymysecretkeymysecretkey12".getBytes());
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "key", testKey);
+        tokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void testRepeatTokenIsServedFromCache() {
+        String token = jwtUtil.generateToken("archana", List.of("ROLE_ADMIN"));
+
+        JwtPrincipal first = tokenCache.verify(token);
+        JwtPrincipal second = tokenCache.verify(token);
+
+        assertSame(first, second);
+        assertEquals("archana", second.username());
+        assertTrue(second.roles().contains("ROLE_ADMIN"));
+        assertNotNull(second.expiresAt());
+        assertEquals(1, tokenCache.missCount());
+        assertEquals(1, tokenCache.hitCount());
+    }
+
+    @Test
+    void testInvalidTokenIsRejectedAndNotCached() {
+        assertThrows(Exception.class, () -> tokenCache.verify("invalid.jwt.token"));
+        assertThrows(Exception.class, () -> tokenCache.verify("invalid.jwt.token"));
+
+        assertEquals(0, tokenCache.hitCount());
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+        String expired = Jwts.builder()
+                .setSubject("archana")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(testKey)
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> tokenCache.verify(expired));
+    }
+}
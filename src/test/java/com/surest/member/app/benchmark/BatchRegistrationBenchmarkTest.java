@@ -0,0 +1,76 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.dto.RegisterRequestDTO;
+import com.surest.member.app.dto.RegistrationResultDTO;
+import com.surest.member.app.dto.RegistrationResultDTO.Status;
+import com.surest.member.app.entity.Role;
+import com.surest.member.app.repository.RoleRepository;
+import com.surest.member.app.repository.UserRepository;
+import com.surest.member.app.service.CustomUserDetailsService;
+import com.surest.member.app.service.UserRegistrationService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * POST /auth/register/batch against the same users registered one request at a time, with the
+ * repositories mocked so the time is the per-user work itself (validation and BCrypt).
+ * Run with ./gradlew test -Dbenchmark=true --tests '*BatchRegistrationBenchmarkTest'
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BatchRegistrationBenchmarkTest {
+
+    private static final int USERS = 64;
+
+    @Test
+    void batchBeatsOneRegistrationPerRequest() {
+        UserRepository userRepository = mock(UserRepository.class);
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        Role role = new Role();
+        role.setRoleName("USER");
+        when(roleRepository.findAll()).thenReturn(List.of(role));
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        UserRegistrationService service = new UserRegistrationService(userRepository, roleRepository,
+                new BCryptPasswordEncoder(), mock(CustomUserDetailsService.class),
+                Validation.buildDefaultValidatorFactory().getValidator(), 5000);
+
+        // warm-up: JIT and the hashing pool
+        service.registerBatch(requests("warm"));
+
+        List<RegisterRequestDTO> single = requests("single");
+        long singleStart = System.nanoTime();
+        for (RegisterRequestDTO request : single) {
+            service.registerBatch(List.of(request));
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+
+        long batchStart = System.nanoTime();
+        List<RegistrationResultDTO> results = service.registerBatch(requests("batch"));
+        long batchNanos = System.nanoTime() - batchStart;
+
+        System.out.printf("%d registrations, %d cores%n", USERS, Runtime.getRuntime().availableProcessors());
+        System.out.printf("one per request  %8d ms%n", singleNanos / 1_000_000);
+        System.out.printf("one batch        %8d ms%n", batchNanos / 1_000_000);
+
+        assertThat(results).allMatch(r -> r.getStatus() == Status.CREATED);
+        assertThat(batchNanos).isLessThan(singleNanos);
+    }
+
+    private static List<RegisterRequestDTO> requests(String prefix) {
+        List<RegisterRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            requests.add(new RegisterRequestDTO(prefix + "-user-" + i, "secret-" + i, "USER"));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,72 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.dto.MemberBulkResultDTO;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.service.MemberBulkService;
+import com.surest.member.app.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows/sec of POST /api/v1/members (one createMember per row) vs POST /api/v1/members/bulk,
+ * measured at the service layer against the local PostgreSQL.
+ * Run with ./gradlew test -Dbenchmark=true --tests '*BulkMemberCreateBenchmarkTest'
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkMemberCreateBenchmarkTest {
+
+    private static final int SINGLE_ROWS = 2_000;
+    private static final int BULK_ROWS = 50_000;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberBulkService memberBulkService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'bulk-bench-%'");
+    }
+
+    @Test
+    void bulkPathInsertsFasterThanSingleItemPath() {
+        List<MemberRequestDTO> single = requests("single", SINGLE_ROWS);
+        long start = System.nanoTime();
+        single.forEach(memberService::createMember);
+        double singleRate = SINGLE_ROWS / ((System.nanoTime() - start) / 1e9);
+
+        List<MemberRequestDTO> bulk = requests("bulk", BULK_ROWS);
+        start = System.nanoTime();
+        List<MemberBulkResultDTO> results = memberBulkService.createMembers(bulk);
+        double bulkRate = BULK_ROWS / ((System.nanoTime() - start) / 1e9);
+
+        System.out.printf("single-item path: %,.0f rows/sec (%d rows)%n", singleRate, SINGLE_ROWS);
+        System.out.printf("bulk path:        %,.0f rows/sec (%d rows)%n", bulkRate, BULK_ROWS);
+        assertThat(results).allMatch(r -> r.getStatus() == MemberBulkResultDTO.Status.CREATED);
+        assertThat(bulkRate).isGreaterThan(singleRate);
+    }
+
+    private List<MemberRequestDTO> requests(String kind, int count) {
+        List<MemberRequestDTO> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new MemberRequestDTO("Bench" + i, "Member", "bulk-bench-" + kind + "-" + i + "@example.com",
+                    LocalDate.of(1950 + i % 50, 1 + i % 12, 1 + i % 28)));
+        }
+        return requests;
+    }
+}
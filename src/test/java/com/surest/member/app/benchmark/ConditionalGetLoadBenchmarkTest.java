@@ -0,0 +1,139 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.auth.JwtUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Polls GET /api/v1/members/{id} and a list page the way a mobile client does, first unconditionally
+ * and then with If-None-Match, and prints response bytes and Tomcat worker CPU time for both.
+ * Run with ./gradlew test -Dbenchmark=true --tests '*ConditionalGetLoadBenchmarkTest'
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetLoadBenchmarkTest {
+
+    private static final int MEMBERS = 1_000;
+    private static final int POLLS = 20_000;
+    private static final String LIST_PATH = "/api/v1/members?page=0&size=50&sort=lastName,asc";
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private String token;
+    private List<String> paths;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at)
+                SELECT gen_random_uuid(), 'First' || g, 'Last' || g, DATE '1950-01-01' + g,
+                       'etag-bench-' || g || '@example.com', now(), now()
+                FROM generate_series(1, ?) AS g
+                """, MEMBERS);
+        token = jwtUtil.generateToken("etag-bench", List.of("ROLE_USER"));
+        paths = new ArrayList<>();
+        jdbcTemplate.queryForList("SELECT id FROM surest.member WHERE email LIKE 'etag-bench-%'", UUID.class)
+                .forEach(id -> paths.add("/api/v1/members/" + id));
+        // One list poll for every ten single-member polls
+        for (int i = paths.size() - 1; i >= 0; i -= 10) {
+            paths.add(i, LIST_PATH);
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'etag-bench-%'");
+    }
+
+    @Test
+    void conditionalPollsSaveBandwidthAndCpu() throws Exception {
+        // warm-up: caches, JIT, and the ETag each client would remember
+        List<String> etags = new ArrayList<>();
+        for (String path : paths) {
+            etags.add(get(path, null).headers().firstValue("ETag").orElseThrow());
+        }
+
+        Run full = poll(null);
+        Run conditional = poll(etags);
+
+        System.out.printf("%,d polls       body bytes     304s   worker CPU (ms)%n", POLLS);
+        System.out.printf("unconditional %,12d %8d %12.1f%n", full.bodyBytes, full.notModified, full.cpuNanos / 1e6);
+        System.out.printf("If-None-Match %,12d %8d %12.1f%n", conditional.bodyBytes, conditional.notModified,
+                conditional.cpuNanos / 1e6);
+        System.out.printf("saved: %.1f%% bytes, %.1f%% CPU%n",
+                100.0 * (full.bodyBytes - conditional.bodyBytes) / full.bodyBytes,
+                100.0 * (full.cpuNanos - conditional.cpuNanos) / full.cpuNanos);
+
+        assertThat(conditional.notModified).isEqualTo(POLLS);
+        assertThat(conditional.bodyBytes).isZero();
+    }
+
+    private Run poll(List<String> etags) throws IOException, InterruptedException {
+        long cpuBefore = workerCpuNanos();
+        long bodyBytes = 0;
+        int notModified = 0;
+        for (int i = 0; i < POLLS; i++) {
+            int index = i % paths.size();
+            HttpResponse<byte[]> response = get(paths.get(index), etags == null ? null : etags.get(index));
+            bodyBytes += response.body().length;
+            if (response.statusCode() == 304) {
+                notModified++;
+            }
+        }
+        return new Run(bodyBytes, notModified, workerCpuNanos() - cpuBefore);
+    }
+
+    private HttpResponse<byte[]> get(String path, String ifNoneMatch) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token);
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    // CPU of the Tomcat request threads only, so the client's own work is not counted
+    private long workerCpuNanos() {
+        long total = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && info.getThreadName().startsWith("http-nio-")) {
+                total += Math.max(0, threads.getThreadCpuTime(info.getThreadId()));
+            }
+        }
+        return total;
+    }
+
+    private record Run(long bodyBytes, int notModified, long cpuNanos) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.dto.CursorPageDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.service.MemberService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Offset vs keyset latency from page 1 to page 10,000 (size 10) over 100k members.
+ * Run with ./gradlew test -Dbenchmark=true --tests '*KeysetPaginationBenchmarkTest'
+ */
+// Page cache off: offset timings must hit the database, not a cached or prefetched page
+@SpringBootTest(properties = "members.page-cache.enabled=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int LAST_PAGE = 10_000;
+    // One page past the last one read, so even page 10,000 has a next cursor
+    private static final int ROWS = (LAST_PAGE + 1) * PAGE_SIZE;
+    private static final Set<Integer> SAMPLED_PAGES = Set.of(1, 10, 100, 1_000, 5_000, LAST_PAGE);
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{UUID.randomUUID(), "First" + i, "Last" + (i % 5_000),
+                    Date.valueOf(LocalDate.of(1950 + i % 50, 1 + i % 12, 1 + i % 28)), "keyset-bench-" + i + "@example.com"});
+            if (batch.size() == 5_000) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("ANALYZE surest.member");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'keyset-bench-%'");
+    }
+
+    @Test
+    void keysetLatencyStaysFlatWhileOffsetGrows() {
+        // warm-up
+        memberService.getAllMembers(0, PAGE_SIZE, "lastName,asc", null, null);
+        memberService.getMembersAfter("", PAGE_SIZE, "lastName,asc", null, null);
+
+        System.out.println("page     offset(ms)   keyset(ms)");
+        String cursor = "";
+        long firstKeyset = 0;
+        long lastKeyset = 0;
+        for (int page = 1; page <= LAST_PAGE; page++) {
+            long start = System.nanoTime();
+            CursorPageDTO<MemberResponseDTO> result = memberService.getMembersAfter(cursor, PAGE_SIZE, "lastName,asc", null, null);
+            long keysetNanos = System.nanoTime() - start;
+            cursor = result.getNextCursor();
+
+            if (SAMPLED_PAGES.contains(page)) {
+                start = System.nanoTime();
+                memberService.getAllMembers(page - 1, PAGE_SIZE, "lastName,asc", null, null);
+                long offsetNanos = System.nanoTime() - start;
+                System.out.printf("%-8d %10.2f %12.2f%n", page, offsetNanos / 1e6, keysetNanos / 1e6);
+
+                if (page == 1) {
+                    firstKeyset = keysetNanos;
+                }
+                lastKeyset = keysetNanos;
+            }
+            assertThat(cursor).isNotNull();
+        }
+
+        // Deep keyset pages should cost about the same as the first one
+        assertThat(lastKeyset).isLessThan(firstKeyset * 5 + 5_000_000L);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, now(), now())", batch);
+    }
+}
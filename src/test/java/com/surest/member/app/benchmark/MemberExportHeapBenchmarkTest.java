@@ -0,0 +1,119 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.service.MemberExportService;
+import com.surest.member.app.service.MemberFileFormat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports 10M members through GET /api/v1/members/export's service against the local PostgreSQL
+ * and checks that live heap stays flat while the rows stream through.
+ * Run with ./gradlew test -Dbenchmark=true --tests '*MemberExportHeapBenchmarkTest'
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MemberExportHeapBenchmarkTest {
+
+    private static final int ROWS = 10_000_000;
+    // Live heap sampled (after a GC) every this many bytes of output
+    private static final long SAMPLE_EVERY_BYTES = 100L * 1024 * 1024;
+    // One fetch batch, the output buffers and noise; a materialized 10M-row result is gigabytes
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    MemberExportService memberExportService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at)
+                SELECT gen_random_uuid(), 'First' || g, 'Last' || (g % 50000),
+                       DATE '1950-01-01' + (g % 20000), 'export-bench-' || g || '@example.com', now(), now()
+                FROM generate_series(1, ?) AS g
+                """, ROWS);
+        jdbcTemplate.execute("ANALYZE surest.member");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'export-bench-%'");
+    }
+
+    @Test
+    void ndjsonExportOfTenMillionRowsKeepsHeapFlat() throws IOException {
+        assertHeapStaysFlat(MemberFileFormat.NDJSON, false);
+    }
+
+    @Test
+    void gzipCsvExportOfTenMillionRowsKeepsHeapFlat() throws IOException {
+        assertHeapStaysFlat(MemberFileFormat.CSV, true);
+    }
+
+    private void assertHeapStaysFlat(MemberFileFormat format, boolean gzip) throws IOException {
+        long baseline = liveHeap();
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+        long start = System.nanoTime();
+        long rows = memberExportService.export(format, null, null, gzip, out);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%s export (gzip=%s): %,d rows, %,d MB in %.1f s (%,.0f rows/sec), peak live heap +%,d MB%n",
+                format, gzip, rows, out.bytes / (1024 * 1024), seconds, rows / seconds,
+                (out.peakLiveHeap - baseline) / (1024 * 1024));
+        assertThat(rows).isGreaterThanOrEqualTo(ROWS);
+        assertThat(out.samples).isGreaterThan(0);
+        assertThat(out.peakLiveHeap - baseline).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private long liveHeap() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    // Discards the export, sampling live heap as the bytes go by
+    private final class HeapSamplingOutputStream extends OutputStream {
+
+        long bytes;
+        long nextSample = SAMPLE_EVERY_BYTES;
+        long peakLiveHeap;
+        int samples;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            bytes += len;
+            if (bytes >= nextSample) {
+                nextSample += SAMPLE_EVERY_BYTES;
+                samples++;
+                peakLiveHeap = Math.max(peakLiveHeap, liveHeap());
+            }
+        }
+    }
+}
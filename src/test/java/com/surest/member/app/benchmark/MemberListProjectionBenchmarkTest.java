@@ -0,0 +1,135 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-page cost (size 100, sorted by lastName) of the old list path, managed Member entities mapped
+ * with ModelMapper, vs the DTO projection findContent now runs, over 1M members: latency
+ * percentiles and bytes allocated by the request thread.
+ * Run with ./gradlew test -Dbenchmark=true --tests '*MemberListProjectionBenchmarkTest'
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MemberListProjectionBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_PAGES = 200;
+    private static final int MEASURED_PAGES = 1_000;
+    // Offsets stay in the first 1000 pages so both paths pay the same (small) index-scan cost
+    private static final int MAX_PAGE = 1_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    // The mapper the list path used before; no longer a bean
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at)
+                SELECT gen_random_uuid(), 'First' || g, 'Last' || (g % 50000),
+                       DATE '1950-01-01' + (g % 20000), 'projection-bench-' || g || '@example.com', now(), now()
+                FROM generate_series(1, ?) AS g
+                """, ROWS);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS ix_projection_bench_last_name ON surest.member (last_name, id)");
+        jdbcTemplate.execute("ANALYZE surest.member");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("DROP INDEX IF EXISTS surest.ix_projection_bench_last_name");
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'projection-bench-%'");
+    }
+
+    @Test
+    void projectionPageAllocatesLessThanEntityPage() {
+        // Each call as the service makes it: no surrounding transaction
+        Result entities = measure("entity + ModelMapper", page -> entityPage(pageable(page)));
+        Result projections = measure("DTO projection", page -> memberRepository.findContent(null, pageable(page), PAGE_SIZE));
+
+        assertThat(projections.bytesPerPage).isLessThan(entities.bytesPerPage);
+    }
+
+    // What getAllMembers did before: managed entities (plus snapshots) then reflective mapping
+    private List<MemberResponseDTO> entityPage(Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Member> query = cb.createQuery(Member.class);
+        Root<Member> root = query.from(Member.class);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        List<Member> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return rows.stream().map(member -> modelMapper.map(member, MemberResponseDTO.class)).toList();
+    }
+
+    private Result measure(String label, IntFunction<List<MemberResponseDTO>> fetchPage) {
+        Random random = new Random(42);
+        for (int i = 0; i < WARMUP_PAGES; i++) {
+            fetchPage.apply(random.nextInt(MAX_PAGE));
+        }
+
+        long thread = Thread.currentThread().getId();
+        long[] nanos = new long[MEASURED_PAGES];
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_PAGES; i++) {
+            long start = System.nanoTime();
+            List<MemberResponseDTO> page = fetchPage.apply(random.nextInt(MAX_PAGE));
+            nanos[i] = System.nanoTime() - start;
+            assertThat(page).hasSize(PAGE_SIZE);
+        }
+        long bytesPerPage = (THREADS.getThreadAllocatedBytes(thread) - allocatedBefore) / MEASURED_PAGES;
+
+        Arrays.sort(nanos);
+        System.out.printf("%-22s p50 %.2f ms  p99 %.2f ms  %,d bytes allocated/page (%d rows, %,d members)%n",
+                label, nanos[MEASURED_PAGES / 2] / 1e6, nanos[MEASURED_PAGES * 99 / 100] / 1e6,
+                bytesPerPage, PAGE_SIZE, ROWS);
+        return new Result(bytesPerPage);
+    }
+
+    private static Pageable pageable(int page) {
+        return PageRequest.of(page, PAGE_SIZE, Sort.by("lastName").and(Sort.by("id")));
+    }
+
+    private record Result(long bytesPerPage) {
+    }
+}
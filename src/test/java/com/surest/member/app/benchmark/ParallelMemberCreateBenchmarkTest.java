@@ -0,0 +1,152 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.exception.DuplicateResourceException;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.service.MemberService;
+import com.surest.member.app.util.MemberMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parallel member creates, the old way (existsByEmail, then a JPA save) against createMember's single
+ * INSERT ... ON CONFLICT: creates/sec with distinct emails, and what callers see when every thread
+ * creates the same few emails. Run against the local PostgreSQL with
+ * ./gradlew test -Dbenchmark=true --tests '*ParallelMemberCreateBenchmarkTest'
+ */
+@SpringBootTest(properties = "members.cache.coherence.enabled=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ParallelMemberCreateBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int CREATES_PER_THREAD = 500;
+    private static final int CONTENDED_EMAILS = 50;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'create-bench-%'");
+    }
+
+    @Test
+    void singleStatementCreateIsFasterAndRaceFree() throws Exception {
+        // warm-up: connection pool, JIT, statement caches
+        run("warm", 50, this::checkThenInsert);
+        run("warm2", 50, memberService::createMember);
+
+        Run legacy = run("legacy", CREATES_PER_THREAD, this::checkThenInsert);
+        Run upsert = run("upsert", CREATES_PER_THREAD, memberService::createMember);
+        Run legacyContended = runContended("legacy-same", this::checkThenInsert);
+        Run upsertContended = runContended("upsert-same", memberService::createMember);
+
+        System.out.printf("%d threads x %d creates          creates/sec   409s   other errors%n", THREADS, CREATES_PER_THREAD);
+        System.out.printf("existsByEmail + save            %,10.0f %6d %8d%n", legacy.rate(), legacy.conflicts, legacy.errors);
+        System.out.printf("INSERT ... ON CONFLICT          %,10.0f %6d %8d%n", upsert.rate(), upsert.conflicts, upsert.errors);
+        System.out.printf("same %d emails, check + save     %,10.0f %6d %8d%n", CONTENDED_EMAILS, legacyContended.rate(),
+                legacyContended.conflicts, legacyContended.errors);
+        System.out.printf("same %d emails, ON CONFLICT      %,10.0f %6d %8d%n", CONTENDED_EMAILS, upsertContended.rate(),
+                upsertContended.conflicts, upsertContended.errors);
+
+        assertThat(upsert.errors).isZero();
+        assertThat(upsertContended.errors).isZero();
+        assertThat(upsertContended.conflicts).isEqualTo(THREADS * CONTENDED_EMAILS - CONTENDED_EMAILS);
+        assertThat(upsert.rate()).isGreaterThan(legacy.rate());
+    }
+
+    // The createMember body before INSERT ... ON CONFLICT: two round trips with a race window in between
+    private void checkThenInsert(MemberRequestDTO request) {
+        if (memberRepository.existsByEmail(request.getEmail())) {
+            throw new DuplicateResourceException("Email already exists");
+        }
+        memberRepository.save(MemberMapper.toEntity(request));
+    }
+
+    private Run run(String kind, int perThread, Consumer<MemberRequestDTO> create) throws Exception {
+        return measure(THREADS * perThread, thread -> {
+            List<MemberRequestDTO> requests = new ArrayList<>(perThread);
+            for (int i = 0; i < perThread; i++) {
+                requests.add(request(kind + "-" + thread + "-" + i));
+            }
+            return requests;
+        }, create);
+    }
+
+    // Every thread creates the same emails, so all but one create per email must lose
+    private Run runContended(String kind, Consumer<MemberRequestDTO> create) throws Exception {
+        return measure(THREADS * CONTENDED_EMAILS, thread -> {
+            List<MemberRequestDTO> requests = new ArrayList<>(CONTENDED_EMAILS);
+            for (int i = 0; i < CONTENDED_EMAILS; i++) {
+                requests.add(request(kind + "-" + i));
+            }
+            return requests;
+        }, create);
+    }
+
+    private Run measure(int total, IntFunction<List<MemberRequestDTO>> requestsForThread,
+                        Consumer<MemberRequestDTO> create) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        List<List<MemberRequestDTO>> perThread = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            perThread.add(requestsForThread.apply(t));
+        }
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<MemberRequestDTO> requests : perThread) {
+                futures.add(executor.submit(() -> requests.forEach(request -> {
+                    try {
+                        create.accept(request);
+                    } catch (DuplicateResourceException e) {
+                        conflicts.incrementAndGet();
+                    } catch (DataIntegrityViolationException e) {
+                        // what used to reach GlobalExceptionHandler as a 500
+                        errors.incrementAndGet();
+                    }
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return new Run(total, System.nanoTime() - start, conflicts.get(), errors.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MemberRequestDTO request(String key) {
+        return new MemberRequestDTO("Bench", "Member", "create-bench-" + key + "@example.com", LocalDate.of(1990, 1, 1));
+    }
+
+    private record Run(int creates, long nanos, int conflicts, int errors) {
+        double rate() {
+            return creates / (nanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.surest.member.app.benchmark;
+
+import com.surest.member.app.SurestMemberAppApplication;
+import com.surest.member.app.auth.JwtUtil;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Platform vs virtual request threads at 1k, 5k and 10k concurrent clients, each client reading member
+ * list pages back to back (a JDBC query per request: page cache and counts off). The app is started once
+ * per mode on a random port with the same Hikari pool; prints throughput, latency percentiles, 503s
+ * (no pooled connection in time) and failed requests. Needs the local PostgreSQL and ulimit -n above 25000.
+ * Run with ./gradlew test -Dbenchmark=true --tests '*VirtualThreadLoadBenchmarkTest'
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int[] CLIENTS = {1_000, 5_000, 10_000};
+    private static final int MEMBERS = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Duration WARM_UP = Duration.ofSeconds(10);
+    private static final Duration MEASURE = Duration.ofSeconds(30);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void requestThreadsAtHighConcurrency() throws Exception {
+        List<Run> runs = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext app = start(virtual)) {
+                JdbcTemplate jdbcTemplate = app.getBean(JdbcTemplate.class);
+                seed(jdbcTemplate);
+                try {
+                    String token = app.getBean(JwtUtil.class).generateToken("load-bench", List.of("ROLE_USER"));
+                    int port = ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+                    for (int clients : CLIENTS) {
+                        runs.add(run(virtual ? "virtual" : "platform", clients, port, token));
+                    }
+                } finally {
+                    jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'load-bench-%'");
+                }
+            }
+        }
+
+        System.out.printf("threads    clients      req/s   p50 ms   p99 ms     503s   failed%n");
+        for (Run run : runs) {
+            System.out.printf("%-9s %8d %10.0f %8.1f %8.1f %8d %8d%n", run.mode, run.clients, run.rate(),
+                    run.p50Millis, run.p99Millis, run.busy, run.failed);
+        }
+
+        assertThat(runs).allMatch(run -> run.ok > 0);
+    }
+
+    // Command-line arguments: default properties would lose to application.properties (server.port, page cache)
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(SurestMemberAppApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.max-connections=25000",
+                        "--server.tomcat.accept-count=1000",
+                        "--members.page-cache.enabled=false",
+                        "--members.cache.coherence.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.springframework.security=INFO");
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at)
+                SELECT gen_random_uuid(), 'First' || g, 'Last' || g, DATE '1950-01-01' + g,
+                       'load-bench-' || g || '@example.com', now(), now()
+                FROM generate_series(1, ?) AS g
+                """, MEMBERS);
+    }
+
+    // Every client runs until the end of the measurement window; only requests started after warm-up count
+    private static Run run(String mode, int clients, int port, String token) throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("load.request")
+                .publishPercentiles(0.5, 0.99)
+                .distributionStatisticExpiry(MEASURE.multipliedBy(2))
+                .register(registry);
+        AtomicLong ok = new AtomicLong();
+        AtomicLong busy = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long warmUpEnd = System.nanoTime() + WARM_UP.toNanos();
+        long end = warmUpEnd + MEASURE.toNanos();
+
+        ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientThreads)
+                .build();
+        try {
+            for (int i = 0; i < clients; i++) {
+                clientThreads.execute(() -> {
+                    while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                        long start = System.nanoTime();
+                        int status = get(client, port, token);
+                        if (start < warmUpEnd) {
+                            continue;
+                        }
+                        if (status == 200) {
+                            ok.incrementAndGet();
+                            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        } else if (status == 503) {
+                            busy.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        } finally {
+            clientThreads.shutdown();
+            clientThreads.awaitTermination(WARM_UP.plus(MEASURE).plus(REQUEST_TIMEOUT).toSeconds() + 30, TimeUnit.SECONDS);
+            client.close();
+        }
+
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.5) {
+                p50 = value.value(TimeUnit.MILLISECONDS);
+            } else if (value.percentile() == 0.99) {
+                p99 = value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return new Run(mode, clients, ok.get(), busy.get(), failed.get(), p50, p99);
+    }
+
+    // Status code, or -1 when the request did not complete (refused, reset, timed out)
+    private static int get(HttpClient client, int port, String token) {
+        int page = ThreadLocalRandom.current().nextInt(MEMBERS / PAGE_SIZE);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/v1/members?page=" + page + "&size=" + PAGE_SIZE + "&sort=lastName,asc&count=none"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private record Run(String mode, int clients, long ok, long busy, long failed, double p50Millis, double p99Millis) {
+        double rate() {
+            return ok / (double) MEASURE.toSeconds();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.surest.member.app.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.repository.MemberRepository;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheManager cacheManager;
+    private MemberRepository memberRepository;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        environment = new MockEnvironment()
+                .withProperty("app.cache.specs.members", "maximumSize=2,expireAfterWrite=5m,refreshAfterWrite=1s,recordStats")
+                .withProperty("app.cache.specs.weighted", "maximumWeight=4096,expireAfterWrite=1m,recordStats");
+        memberRepository = mock(MemberRepository.class);
+        cacheManager = new CacheConfig().cacheManager(environment, memberRepository,
+                "maximumSize=50,expireAfterWrite=1m", false);
+    }
+
+    @Test
+    void testMembersCacheUsesItsOwnSpec() {
+        Cache<Object, Object> members = nativeCache(CacheConfig.MEMBERS);
+
+        assertThat(members.policy().eviction()).hasValueSatisfying(e -> assertThat(e.getMaximum()).isEqualTo(2));
+        assertThat(members.policy().expireAfterWrite())
+                .hasValueSatisfying(e -> assertThat(e.getExpiresAfter()).isEqualTo(Duration.ofMinutes(5)));
+        assertThat(members.policy().isRecordingStats()).isTrue();
+    }
+
+    @Test
+    void testMembersCacheStaysBounded() {
+        org.springframework.cache.Cache members = cacheManager.getCache(CacheConfig.MEMBERS);
+        for (int i = 0; i < 1_000; i++) {
+            members.put(UUID.randomUUID(), member());
+        }
+        Cache<Object, Object> cache = nativeCache(CacheConfig.MEMBERS);
+        cache.cleanUp();
+
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(2);
+        assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(998);
+    }
+
+    @Test
+    void testStatsAreExposedAsCacheMetrics() {
+        org.springframework.cache.Cache members = cacheManager.getCache(CacheConfig.MEMBERS);
+        // What the actuator does for every cache of every CacheManager at startup
+        new CacheMetricsRegistrar(meterRegistry, List.of(new CaffeineCacheMeterBinderProvider()))
+                .bindCacheToRegistry(members, Tag.of("cache.manager", "cacheManager"));
+        UUID id = UUID.randomUUID();
+        members.get(id, this::member);
+        members.get(id, this::member);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "members").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "members").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "members").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("cache.load.duration").tag("cache", "members").timeGauge()).isNotNull();
+        // The cache manager binds nothing itself, so each meter exists once
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "members").tag("result", "hit").functionCounters()).hasSize(1);
+    }
+
+    @Test
+    void testMaximumWeightSpecGetsAWeigher() {
+        Cache<Object, Object> weighted = nativeCache("weighted");
+
+        assertThat(weighted.policy().eviction()).hasValueSatisfying(e -> assertThat(e.isWeighted()).isTrue());
+        assertThat(CacheConfig.weigh(UUID.randomUUID(), member())).isGreaterThan(128);
+    }
+
+    @Test
+    void testUnconfiguredCacheNamesFallBackToDefaultSpec() {
+        Cache<Object, Object> other = nativeCache("other");
+
+        assertThat(other.policy().eviction()).hasValueSatisfying(e -> assertThat(e.getMaximum()).isEqualTo(50));
+    }
+
+    @Test
+    void testHotEntryIsRefreshedInBackgroundWithoutBlockingReaders() throws InterruptedException {
+        UUID id = UUID.randomUUID();
+        MemberResponseDTO stale = member();
+        CountDownLatch reloaded = new CountDownLatch(1);
+        Member fresh = new Member(id, "Ridha", "Khan", LocalDate.of(1990, 1, 5), "ridha@gmail.com", null, null);
+        when(memberRepository.findById(id)).thenAnswer(invocation -> {
+            reloaded.countDown();
+            return Optional.of(fresh);
+        });
+        org.springframework.cache.Cache members = cacheManager.getCache(CacheConfig.MEMBERS);
+        members.put(id, stale);
+
+        Thread.sleep(1_100);
+        // Past refreshAfterWrite: the reader still gets the cached value, the reload runs asynchronously
+        assertThat(members.get(id).get()).isSameAs(stale);
+        assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The refreshed value replaces the entry once the reload completes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (members.get(id).get() == stale && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(((MemberResponseDTO) members.get(id).get()).getFirstName()).isEqualTo("Ridha");
+    }
+
+    @Test
+    void testRefreshAheadWithoutLoaderIsRejected() {
+        MockEnvironment noLoader = new MockEnvironment()
+                .withProperty("app.cache.specs.other", "maximumSize=10,refreshAfterWrite=1m");
+
+        assertThatThrownBy(() -> new CacheConfig().cacheManager(noLoader, memberRepository, "maximumSize=50", false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("other");
+    }
+
+    @Test
+    void testNullValuesAreNotCached() {
+        assertThatThrownBy(() -> cacheManager.getCache(CacheConfig.MEMBERS).put(UUID.randomUUID(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testVirtualThreadModeLoadsOutsideTheCallerOnAVirtualThread() {
+        CacheManager virtual = new CacheConfig().cacheManager(environment, memberRepository,
+                "maximumSize=50,expireAfterWrite=1m", true);
+        org.springframework.cache.Cache members = virtual.getCache(CacheConfig.MEMBERS);
+        AtomicBoolean loadedOnVirtualThread = new AtomicBoolean();
+
+        MemberResponseDTO loaded = members.get(UUID.randomUUID(), () -> {
+            loadedOnVirtualThread.set(Thread.currentThread().isVirtual());
+            return member();
+        });
+
+        assertThat(loaded).isNotNull();
+        assertThat(loadedOnVirtualThread).isTrue();
+        assertThat(((CaffeineCache) members).getAsyncCache().synchronous().policy().eviction())
+                .hasValueSatisfying(e -> assertThat(e.getMaximum()).isEqualTo(2));
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    private MemberResponseDTO member() {
+        return new MemberResponseDTO(UUID.randomUUID(), "Archana", "Pujar", "archanapujar@gmail.com", LocalDate.of(1995, 6, 7));
+    }
+}
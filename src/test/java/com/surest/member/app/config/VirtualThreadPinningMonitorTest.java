@@ -0,0 +1,74 @@
+package com.surest.member.app.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (monitor != null) {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    void testBlockingInsideSynchronizedIsReportedWithItsSite() throws InterruptedException {
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, true, Duration.ofMillis(10));
+        monitor.start();
+
+        // JFR streams events in periodic flushes, so keep pinning until one arrives
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (pinnedTimer() == null && System.nanoTime() < deadline) {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+            Thread.sleep(200);
+        }
+
+        Timer pinned = pinnedTimer();
+        assertThat(pinned).isNotNull();
+        assertThat(pinned.getId().getTag("site")).isEqualTo("VirtualThreadPinningMonitorTest.sleepWhileHoldingMonitor");
+        assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void testNothingIsRecordedWithPlatformThreads() throws InterruptedException {
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, false, Duration.ofMillis(10));
+        monitor.start();
+
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+        Thread.sleep(1_500);
+
+        assertThat(pinnedTimer()).isNull();
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Timer pinnedTimer() {
+        return meterRegistry.find("jvm.threads.virtual.pinned").timer();
+    }
+}
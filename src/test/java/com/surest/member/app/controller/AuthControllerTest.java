@@ -3,14 +3,20 @@ package com.surest.member.app.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest.member.app.auth.JwtPrincipal;
 import com.surest.member.app.auth.JwtUtil;
+import com.surest.member.app.auth.LoginExecutor;
+import com.surest.member.app.auth.TokenRevocationService;
 import com.surest.member.app.dto.LoginRequestDTO;
 import com.surest.member.app.dto.RegisterRequestDTO;
+import com.surest.member.app.dto.RegistrationResultDTO;
 import com.surest.member.app.entity.Role;
 import com.surest.member.app.entity.User;
+import com.surest.member.app.exception.ServiceBusyException;
 import com.surest.member.app.repository.RoleRepository;
 import com.surest.member.app.repository.UserRepository;
 import com.surest.member.app.service.CustomUserDetailsService;
+import com.surest.member.app.service.UserRegistrationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,14 +31,17 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -46,6 +55,9 @@ class AuthControllerTest {
     @Mock private UserRepository userRepository;
     @Mock private RoleRepository roleRepository;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private LoginExecutor loginExecutor;
+    @Mock private UserRegistrationService userRegistrationService;
+    @Mock private TokenRevocationService revocationService;
 
     @InjectMocks
     private AuthController authController;
@@ -76,20 +88,17 @@ class AuthControllerTest {
         request.setUsername("archana");
         request.setPassword("archana@123");
 
+        runLoginsInline();
         Authentication authMock = mock(Authentication.class);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authMock);
-
-        UserDetails userMock = mock(UserDetails.class);
-        when(userMock.getUsername()).thenReturn("archana");
+        when(authMock.getName()).thenReturn("archana");
         // Use thenAnswer to return authorities
-        when(userMock.getAuthorities()).thenAnswer(invocation ->
+        when(authMock.getAuthorities()).thenAnswer(invocation ->
                 List.of(new SimpleGrantedAuthority("USER"))
         );
-        when(userDetailsService.loadUserByUsername("archana"))
-                .thenReturn(userMock);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authMock);
 
-        when(jwtUtil.generateToken(eq("archana"), anyList()))
+        when(jwtUtil.generateToken(eq("archana"), eq(List.of("USER"))))
                 .thenReturn("fake-jwt-token");
         mockMvc.perform(post("/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -97,7 +106,9 @@ class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value("fake-jwt-token"));
 
-        verify(userDetailsService, times(1)).loadUserByUsername("archana");
+        // The authenticated principal is reused, no second user lookup
+        verify(userDetailsService, never()).loadUserByUsername(any());
+        verify(loginExecutor, times(1)).submit(any());
     }
 
 
@@ -105,6 +116,7 @@ class AuthControllerTest {
     void testLoginInvalidCredentials() {
         // Given
         LoginRequestDTO request = loginRequestDetails();
+        runLoginsInline();
         doThrow(new BadCredentialsException("Invalid credentials"))
                 .when(authenticationManager)
                 .authenticate(any(UsernamePasswordAuthenticationToken.class));
@@ -120,6 +132,38 @@ class AuthControllerTest {
     }
 
 
+    @Test
+    void testLoginPoolSaturatedIsRejected() {
+        LoginRequestDTO request = loginRequestDetails();
+        when(loginExecutor.submit(any())).thenThrow(new ServiceBusyException("Too many concurrent logins"));
+
+        assertThrows(ServiceBusyException.class, () -> authController.login(request));
+
+        verify(authenticationManager, never()).authenticate(any());
+        verify(jwtUtil, never()).generateToken(any(), anyList());
+    }
+
+    @Test
+    void testLogoutRevokesCurrentToken() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("archana", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        authentication.setDetails(new JwtPrincipal("archana", Set.of("ROLE_USER"), expiresAt, "jti-1"));
+
+        ResponseEntity<Object> response = authController.logout(authentication);
+
+        assertEquals("Logged out successfully", response.getBody());
+        verify(revocationService, times(1)).revoke("jti-1", expiresAt);
+    }
+
+    @Test
+    void testLogoutWithoutTokenIsUnauthorized() {
+        ResponseEntity<Object> response = authController.logout(null);
+
+        assertEquals(401, response.getStatusCode().value());
+        verify(revocationService, never()).revoke(any(), any());
+    }
+
     @Test
      void testRegisterSuccess() {
         RegisterRequestDTO request =registerRequestDetails();
@@ -136,6 +180,7 @@ class AuthControllerTest {
 
         verify(userRepository, times(1)).save(any(User.class));
         verify(passwordEncoder, times(1)).encode("archana@123");
+        verify(userDetailsService, times(1)).evict("archana");
     }
 
     @Test
@@ -166,6 +211,24 @@ class AuthControllerTest {
         verify(userRepository, never()).save(any());
     }
 
+    @Test
+    void testRegisterBatchDelegatesToRegistrationService() {
+        List<RegisterRequestDTO> requests = List.of(registerRequestDetails());
+        List<RegistrationResultDTO> results = List.of(new RegistrationResultDTO(
+                "archana", RegistrationResultDTO.Status.CREATED, "User registered successfully"));
+        when(userRegistrationService.registerBatch(requests)).thenReturn(results);
+
+        ResponseEntity<List<RegistrationResultDTO>> response = authController.registerBatch(requests);
+
+        assertEquals(results, response.getBody());
+        verify(userRepository, never()).save(any());
+    }
+
+    private void runLoginsInline() {
+        when(loginExecutor.submit(any())).thenAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+    }
+
     private LoginRequestDTO loginRequestDetails() {
         LoginRequestDTO request = new LoginRequestDTO();
         request.setUsername("archana");
@@ -1,37 +1,70 @@
 package com.surest.member.app.controller;
 
+import com.surest.member.app.dto.CursorPageDTO;
+import com.surest.member.app.dto.MemberBulkDeleteDTO;
+import com.surest.member.app.dto.MemberBulkResultDTO;
+import com.surest.member.app.dto.MemberPatchDTO;
 import com.surest.member.app.dto.MemberRequestDTO;
 import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.dto.MemberSuggestionDTO;
+import com.surest.member.app.exception.PreconditionFailedException;
+import com.surest.member.app.service.CountMode;
+import com.surest.member.app.service.MemberBulkService;
+import com.surest.member.app.service.MemberExportService;
+import com.surest.member.app.service.MemberFileFormat;
+import com.surest.member.app.service.MemberNameIndex;
 import com.surest.member.app.service.MemberService;
+import com.surest.member.app.service.MemberUpsertResult;
+import com.surest.member.app.util.MemberETags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 class MemberControllerTest {
 
     @Mock
     private MemberService memberService;
+    private MemberNameIndex memberNameIndex;
+    private MemberBulkService memberBulkService;
+    private MemberExportService memberExportService;
     private MemberController memberController;
 
 
     @BeforeEach
     void setUp() {
         memberService = mock(MemberService.class);
-        memberController = new MemberController(memberService);
+        memberNameIndex = mock(MemberNameIndex.class);
+        memberBulkService = mock(MemberBulkService.class);
+        memberExportService = mock(MemberExportService.class);
+        memberController = new MemberController(memberService, memberNameIndex, memberBulkService, memberExportService);
     }
 
     // ---------------- Create Member ----------------
@@ -50,6 +83,47 @@ class MemberControllerTest {
         verify(memberService, times(1)).createMember(memberRequestDTO);
     }
 
+    // ---------------- Upsert by Email ----------------
+    @Test
+    void testUpsertByEmailReturns201WhenCreated() {
+        MemberRequestDTO request = memberRequestData();
+        MemberResponseDTO member = memberResponseData();
+        member.setUpdatedAt(Timestamp.valueOf("2025-01-01 10:00:00"));
+        when(memberService.upsertMemberByEmail("archanapujar@gmail.com", request)).thenReturn(new MemberUpsertResult(member, true));
+
+        ResponseEntity<MemberResponseDTO> response = memberController.upsertMemberByEmail("archanapujar@gmail.com", request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isSameAs(member);
+        assertThat(response.getHeaders().getETag()).isEqualTo(MemberETags.of(member));
+    }
+
+    @Test
+    void testUpsertByEmailReturns200WhenExisting() {
+        MemberRequestDTO request = memberRequestData();
+        when(memberService.upsertMemberByEmail("archanapujar@gmail.com", request))
+                .thenReturn(new MemberUpsertResult(memberResponseData(), false));
+
+        ResponseEntity<MemberResponseDTO> response = memberController.upsertMemberByEmail("archanapujar@gmail.com", request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    // ---------------- Bulk Create ----------------
+    @Test
+    void testCreateMembersBulkReturnsPerItemResults() {
+        List<MemberRequestDTO> requests = List.of(memberRequestData());
+        List<MemberBulkResultDTO> results = List.of(new MemberBulkResultDTO(0, "archanapujar@gmail.com", UUID.randomUUID(),
+                MemberBulkResultDTO.Status.CREATED, "Member created"));
+        when(memberBulkService.createMembers(requests)).thenReturn(results);
+
+        ResponseEntity<List<MemberBulkResultDTO>> response = memberController.createMembersBulk(requests);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(results);
+        verify(memberService, never()).createMember(any());
+    }
+
     // ---------------- Get Member by ID ----------------
     @Test
     void testGetMemberByIdSuccess() {
@@ -57,13 +131,58 @@ class MemberControllerTest {
         MemberResponseDTO memberResponseDTO = memberResponseData();
         when(memberService.getMemberById(memberId)).thenReturn(memberResponseDTO);
 
-        MemberResponseDTO result = memberController.getMemberById(memberId);
+        MemberResponseDTO result = memberController.getMemberById(memberId).getBody();
 
         assertThat(result).isEqualTo(memberResponseDTO);
         assertThat(result.getEmail()).isEqualTo("archanapujar@gmail.com");
         verify(memberService, times(1)).getMemberById(memberId);
     }
 
+    @Test
+    void testGetMemberByIdSendsETagFromIdAndUpdatedAt() {
+        MemberResponseDTO member = versioned(memberResponseData(), "2025-01-01T10:00:00");
+        when(memberService.getMemberById(member.getId())).thenReturn(member);
+
+        ResponseEntity<MemberResponseDTO> response = memberController.getMemberById(member.getId());
+
+        assertThat(response.getHeaders().getETag()).isEqualTo(MemberETags.of(member.getId(), member.getUpdatedAt()));
+    }
+
+    @Test
+    void testGetMemberByIdAnswers304ForMatchingIfNoneMatch() throws Exception {
+        MemberResponseDTO member = versioned(memberResponseData(), "2025-01-01T10:00:00");
+        when(memberService.getMemberById(member.getId())).thenReturn(member);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(memberController).build();
+        String etag = MemberETags.of(member);
+
+        mockMvc.perform(get("/api/v1/members/{id}", member.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/members/{id}", member.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("archanapujar@gmail.com"))
+                .andExpect(jsonPath("$.updatedAt").doesNotExist());
+    }
+
+    @Test
+    void testListPageAnswers304UntilARowChanges() throws Exception {
+        MemberResponseDTO member = versioned(memberResponseData(), "2025-01-01T10:00:00");
+        when(memberService.getMembers(0, 10, "id,asc", null, null, CountMode.EXACT))
+                .thenReturn(new PageImpl<>(List.of(member), PageRequest.of(0, 10), 1));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(memberController).build();
+
+        String etag = mockMvc.perform(get("/api/v1/members"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/members").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        member.setUpdatedAt(Timestamp.valueOf("2025-01-01 10:00:01"));
+        mockMvc.perform(get("/api/v1/members").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     // ---------------- Get All Members ----------------
     @Test
     void testGetAllMembersSuccess() {
@@ -81,10 +200,10 @@ class MemberControllerTest {
         mockResponse.put("pageSize", 10);
 
         // Mock service behavior
-        when(memberService.getAllMembers(0, 10, "", "", "")).thenReturn(page);
+        when(memberService.getMembers(0, 10, "", "", "", CountMode.EXACT)).thenReturn(page);
 
         // Call controller directly
-        ResponseEntity<Map<String, Object>> result = memberController.getMembers(0, 10, "", "", "");
+        ResponseEntity<Map<String, Object>> result = memberController.getMembers(0, 10, "", "", "", "exact");
 
         // Assertions
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -106,7 +225,55 @@ class MemberControllerTest {
 
 
         // Verify service was called once
-        verify(memberService, times(1)).getAllMembers(0, 10, "", "", "");
+        verify(memberService, times(1)).getMembers(0, 10, "", "", "", CountMode.EXACT);
+    }
+
+    @Test
+    void testGetMembersWithoutCountReturnsHasNextOnly() {
+        List<MemberResponseDTO> members = List.of(memberResponseData());
+        when(memberService.getMembers(0, 1, "id,asc", null, null, CountMode.NONE))
+                .thenReturn(new SliceImpl<>(members, PageRequest.of(0, 1), true));
+
+        ResponseEntity<Map<String, Object>> result = memberController.getMembers(0, 1, "id,asc", null, null, "none");
+
+        assertThat(result.getBody())
+                .containsEntry("content", members)
+                .containsEntry("hasNext", true)
+                .doesNotContainKeys("totalElements", "totalPages");
+    }
+
+    @Test
+    void testGetMembersRejectsUnknownCountMode() {
+        assertThatThrownBy(() -> memberController.getMembers(0, 10, "id,asc", null, null, "approximate"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(memberService);
+    }
+
+    // ---------------- Get Members by Cursor ----------------
+    @Test
+    void testGetMembersByCursorReturnsNextCursor() {
+        List<MemberResponseDTO> members = List.of(memberResponseData());
+        when(memberService.getMembersAfter("", 1, "lastName,asc", null, null))
+                .thenReturn(new CursorPageDTO<>(members, "next-token"));
+
+        ResponseEntity<Map<String, Object>> result = memberController.getMembersByCursor("", 1, "lastName,asc", null, null);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody())
+                .containsEntry("content", members)
+                .containsEntry("nextCursor", "next-token")
+                .containsEntry("hasNext", true)
+                .doesNotContainKey("totalElements");
+    }
+
+    // ---------------- Suggest ----------------
+    @Test
+    void testSuggestIsServedFromNameIndex() {
+        List<MemberSuggestionDTO> suggestions = List.of(new MemberSuggestionDTO(UUID.randomUUID(), "Archana", "Pujar"));
+        when(memberNameIndex.suggest("arc", 5)).thenReturn(suggestions);
+
+        assertThat(memberController.suggest("arc", 5)).isEqualTo(suggestions);
+        verifyNoInteractions(memberService);
     }
 
     // ---------------- Update Member ----------------
@@ -118,11 +285,99 @@ class MemberControllerTest {
 
         when(memberService.updateMember(eq(memberId), any(MemberRequestDTO.class))).thenReturn(memberResponseDTO);
 
-        ResponseEntity<MemberResponseDTO> response = memberController.updateMember(memberId, memberRequestDTO);
+        ResponseEntity<MemberResponseDTO> response = memberController.updateMember(memberId, null, memberRequestDTO);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(memberResponseDTO);
         verify(memberService, times(1)).updateMember(memberId, memberRequestDTO);
+        verify(memberService, never()).checkVersion(any(), any());
+    }
+
+    @Test
+    void testUpdateMemberWithStaleIfMatchIsRejectedBeforeWriting() {
+        UUID memberId = UUID.randomUUID();
+        doThrow(new PreconditionFailedException("Member " + memberId + " has been modified"))
+                .when(memberService).checkVersion(memberId, "\"stale\"");
+
+        assertThatThrownBy(() -> memberController.updateMember(memberId, "\"stale\"", memberRequestData()))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(memberService, never()).updateMember(any(), any());
+    }
+
+    @Test
+    void testUpdateMemberWithCurrentIfMatchReturnsNewETag() {
+        UUID memberId = UUID.randomUUID();
+        MemberRequestDTO request = memberRequestData();
+        MemberResponseDTO updated = versioned(memberResponseData(), "2025-01-02T09:30:00");
+        when(memberService.updateMember(memberId, request)).thenReturn(updated);
+
+        ResponseEntity<MemberResponseDTO> response = memberController.updateMember(memberId, "\"current\"", request);
+
+        verify(memberService).checkVersion(memberId, "\"current\"");
+        assertThat(response.getHeaders().getETag()).isEqualTo(MemberETags.of(updated));
+    }
+
+    // ---------------- Patch Member ----------------
+    @Test
+    void testPatchMemberReturnsPatchedMemberWithETag() {
+        UUID memberId = UUID.randomUUID();
+        MemberPatchDTO patch = new MemberPatchDTO(null, "Kulkarni", null, null);
+        MemberResponseDTO patched = versioned(memberResponseData(), "2025-01-03T08:00:00");
+        when(memberService.patchMember(memberId, patch)).thenReturn(patched);
+
+        ResponseEntity<MemberResponseDTO> response = memberController.patchMember(memberId, null, patch);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(patched);
+        assertThat(response.getHeaders().getETag()).isEqualTo(MemberETags.of(patched));
+        verify(memberService, never()).checkVersion(any(), any());
+    }
+
+    @Test
+    void testPatchMemberWithStaleIfMatchIsRejectedBeforeWriting() {
+        UUID memberId = UUID.randomUUID();
+        doThrow(new PreconditionFailedException("Member " + memberId + " has been modified"))
+                .when(memberService).checkVersion(memberId, "\"stale\"");
+
+        assertThatThrownBy(() -> memberController.patchMember(memberId, "\"stale\"", new MemberPatchDTO("X", null, null, null)))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(memberService, never()).patchMember(any(), any());
+    }
+
+    // ---------------- Export ----------------
+    @Test
+    void testExportStreamsNdjsonByDefault() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = memberController.exportMembers("ndjson", "arch", null, false);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/x-ndjson"));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("members.ndjson");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        // Nothing is read until the body is written
+        verifyNoInteractions(memberExportService);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        verify(memberExportService).export(MemberFileFormat.NDJSON, "arch", null, false, out);
+    }
+
+    @Test
+    void testExportCsvWithGzipSetsContentEncoding() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = memberController.exportMembers("CSV", null, "pujar", true);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("text/csv"));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        verify(memberExportService).export(MemberFileFormat.CSV, null, "pujar", true, out);
+    }
+
+    @Test
+    void testExportRejectsUnknownFormat() {
+        assertThatThrownBy(() -> memberController.exportMembers("xml", null, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("format must be one of");
     }
 
     // ---------------- Delete Member ----------------
@@ -140,6 +395,29 @@ class MemberControllerTest {
         verify(memberService, times(1)).deleteMember(memberId);
     }
 
+    @Test
+    void testBulkDeleteReturnsDeletedCount() {
+        MemberBulkDeleteDTO request = new MemberBulkDeleteDTO(List.of(UUID.randomUUID(), UUID.randomUUID()), null, null);
+        when(memberBulkService.deleteMembers(request)).thenReturn(2);
+
+        ResponseEntity<Map<String, Object>> response = memberController.deleteMembers(request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .containsEntry("message", "Members deleted successfully")
+                .containsEntry("deleted", 2);
+    }
+
+    @Test
+    void testBulkDeleteWithoutCriteriaPropagatesBadRequest() {
+        MemberBulkDeleteDTO request = new MemberBulkDeleteDTO();
+        when(memberBulkService.deleteMembers(request))
+                .thenThrow(new IllegalArgumentException("Either ids or a firstName/lastName filter is required"));
+
+        assertThatThrownBy(() -> memberController.deleteMembers(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
 
 
 public MemberRequestDTO memberRequestData() {
@@ -150,6 +428,11 @@ public MemberRequestDTO memberRequestData() {
                 LocalDate.parse("1995-06-07")        );
     }
 
+    private static MemberResponseDTO versioned(MemberResponseDTO member, String updatedAt) {
+        member.setUpdatedAt(Timestamp.valueOf(LocalDateTime.parse(updatedAt)));
+        return member;
+    }
+
     public MemberResponseDTO memberResponseData() {
         return new MemberResponseDTO(
                 UUID.randomUUID(),
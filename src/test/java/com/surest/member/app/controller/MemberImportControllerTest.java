@@ -0,0 +1,76 @@
+package com.surest.member.app.controller;
+
+import com.surest.member.app.dto.MemberImportStatusDTO;
+import com.surest.member.app.entity.MemberImportJob;
+import com.surest.member.app.service.MemberFileFormat;
+import com.surest.member.app.service.MemberImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class MemberImportControllerTest {
+
+    private MemberImportService memberImportService;
+    private MemberImportController controller;
+
+    @BeforeEach
+    void setUp() {
+        memberImportService = mock(MemberImportService.class);
+        controller = new MemberImportController(memberImportService);
+    }
+
+    @Test
+    void testCsvUploadIsStreamedToImportService() throws Exception {
+        MockHttpServletRequest request = upload("text/csv; charset=UTF-8");
+        MemberImportStatusDTO completed = status(MemberImportJob.Status.COMPLETED);
+        when(memberImportService.importMembers(isNull(), eq(MemberFileFormat.CSV), any())).thenReturn(completed);
+
+        ResponseEntity<MemberImportStatusDTO> response = controller.importMembers(null, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(completed);
+    }
+
+    @Test
+    void testFailedImportReturnsServerErrorWithResumableStatus() throws Exception {
+        MemberImportStatusDTO failed = status(MemberImportJob.Status.FAILED);
+        when(memberImportService.importMembers(eq(failed.getJobId()), eq(MemberFileFormat.NDJSON), any())).thenReturn(failed);
+
+        ResponseEntity<MemberImportStatusDTO> response = controller.importMembers(failed.getJobId(), upload("application/x-ndjson"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getRecordsCommitted()).isEqualTo(5000);
+    }
+
+    @Test
+    void testUnsupportedContentTypeIsRejected() {
+        assertThatThrownBy(() -> controller.importMembers(null, upload("application/json")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(memberImportService);
+    }
+
+    private MockHttpServletRequest upload(String contentType) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/members/imports");
+        request.setContentType(contentType);
+        request.setContent("firstName,lastName,email,dateOfBirth\n".getBytes());
+        return request;
+    }
+
+    private MemberImportStatusDTO status(MemberImportJob.Status status) {
+        return new MemberImportStatusDTO(UUID.randomUUID(), "CSV", status, 5000, 4990, 10, 2500.0,
+                Instant.now(), Instant.now(), null, null, List.of(), true);
+    }
+}
@@ -9,8 +9,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -77,6 +83,42 @@ class ExceptionHandlerTest {
         assertNotNull(responseEntity.getBody());
         assertEquals("must not be blank", responseEntity.getBody().get("username"));    }
 
+    @Test
+    void testDuplicateResourceIsConflict() {
+        ResponseEntity<Map<String, String>> responseEntity =
+                exceptionHandler.handleDuplicateResource(new DuplicateResourceException("Email already exists"));
+
+        assertEquals(HttpStatus.CONFLICT, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals("Email already exists", responseEntity.getBody().get("error"));
+    }
+
+    @Test
+    void testConstraintViolationIsConflictWithoutSqlDetail() {
+        DataIntegrityViolationException ex = new DuplicateKeyException(
+                "duplicate key value violates unique constraint \"ux_member_email_live\"");
+
+        ResponseEntity<Map<String, String>> responseEntity = exceptionHandler.handleDataIntegrityViolation(ex);
+
+        assertEquals(HttpStatus.CONFLICT, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertFalse(responseEntity.getBody().get("error").contains("ux_member_email_live"));
+    }
+
+    @Test
+    void testConnectionPoolTimeoutIsServiceUnavailable() {
+        ResponseEntity<Map<String, String>> jdbc = exceptionHandler.handleConnectionPoolExhausted(
+                new CannotGetJdbcConnectionException("Connection is not available, request timed out after 5000ms"));
+        ResponseEntity<Map<String, String>> jpa = exceptionHandler.handleConnectionPoolExhausted(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, jdbc.getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, jpa.getStatusCode());
+        assertEquals("1", jdbc.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(jdbc.getBody());
+        assertFalse(jdbc.getBody().get("error").contains("5000ms"));
+    }
+
     @Test
     void testHandleOtherExceptions() {
         Exception ex = new Exception("Something went wrong");
@@ -0,0 +1,138 @@
+package com.surest.member.app.integration;
+
+import com.surest.member.app.SurestMemberAppApplication;
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.service.MemberCacheCoherence;
+import com.surest.member.app.service.MemberService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application contexts ("replicas") against the local PostgreSQL and checks that a write on
+ * one evicts the members cache entry on the other, and that a dropped listener reconnects and flushes.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberCacheCoherenceIntegrationTest {
+
+    private static final long CONVERGENCE_BOUND_MILLIS = 2_000;
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    void startNodes() {
+        nodeA = start();
+        nodeB = start();
+        await(() -> coherence(nodeA).isListening() && coherence(nodeB).isListening(), 10_000);
+    }
+
+    @AfterAll
+    void stopNodes() {
+        nodeA.getBean(JdbcTemplate.class).update("DELETE FROM surest.member WHERE email LIKE 'coherence-%'");
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void testUpdateOnOneNodeEvictsOtherNodesEntry() {
+        UUID id = service(nodeA).createMember(request("Archana")).getId();
+        // Both nodes now hold the member in their cache
+        service(nodeA).getMemberById(id);
+        service(nodeB).getMemberById(id);
+        assertThat(cached(nodeB, id)).isNotNull();
+
+        long start = System.nanoTime();
+        service(nodeA).updateMember(id, request("Edited"));
+        await(() -> cached(nodeB, id) == null, CONVERGENCE_BOUND_MILLIS);
+        long convergedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(service(nodeB).getMemberById(id).getFirstName()).isEqualTo("Edited");
+        assertThat(convergedMillis).isLessThan(CONVERGENCE_BOUND_MILLIS);
+    }
+
+    @Test
+    void testDeleteOnOneNodeEvictsOtherNodesEntry() {
+        UUID id = service(nodeA).createMember(request("Ridha")).getId();
+        service(nodeB).getMemberById(id);
+
+        service(nodeA).deleteMember(id);
+
+        await(() -> cached(nodeB, id) == null, CONVERGENCE_BOUND_MILLIS);
+        assertThat(cached(nodeB, id)).isNull();
+    }
+
+    @Test
+    void testListenerReconnectsAndFlushesAfterConnectionLoss() {
+        UUID id = service(nodeA).createMember(request("Reconnect")).getId();
+        service(nodeB).getMemberById(id);
+        double flushesBefore = flushes(nodeB);
+
+        // Kill every listener backend, as a failover or idle-connection reaper would
+        nodeA.getBean(JdbcTemplate.class).queryForList("""
+                SELECT pg_terminate_backend(pid) FROM pg_stat_activity
+                WHERE query LIKE 'LISTEN member_changes%' AND pid <> pg_backend_pid()
+                """);
+
+        await(() -> flushes(nodeB) > flushesBefore && coherence(nodeB).isListening(), 60_000);
+        assertThat(cached(nodeB, id)).isNull();
+        assertThat(coherence(nodeA).isListening()).isTrue();
+    }
+
+    // A command-line argument: a default property would lose to server.port in application.properties
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SurestMemberAppApplication.class)
+                .run("--server.port=0");
+    }
+
+    private static void await(BooleanSupplier condition, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static MemberService service(ConfigurableApplicationContext node) {
+        return node.getBean(MemberService.class);
+    }
+
+    private static MemberCacheCoherence coherence(ConfigurableApplicationContext node) {
+        return node.getBean(MemberCacheCoherence.class);
+    }
+
+    // The entry as the node holds it. Not Cache.get: the members cache has a loader, so a lookup through
+    // Spring would load the row again and never report an eviction
+    @SuppressWarnings("unchecked")
+    private static Object cached(ConfigurableApplicationContext node, UUID id) {
+        Cache members = node.getBean(CacheManager.class).getCache(CacheConfig.MEMBERS);
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) members.getNativeCache()).getIfPresent(id);
+    }
+
+    private static double flushes(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).get("members.cache.coherence.flushes").counter().count();
+    }
+
+    private static MemberRequestDTO request(String firstName) {
+        return new MemberRequestDTO(firstName, "Pujar", "coherence-" + UUID.randomUUID() + "@gmail.com",
+                LocalDate.of(1995, 6, 7));
+    }
+}
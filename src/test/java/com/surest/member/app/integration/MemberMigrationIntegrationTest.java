@@ -0,0 +1,120 @@
+package com.surest.member.app.integration;
+
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.entity.Role;
+import com.surest.member.app.entity.User;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway against a database from before Flyway, whose schema ddl-auto created: there the email unique
+ * constraint has a Hibernate-generated name rather than V1's uk_member_email. Builds such a schema in a
+ * scratch database on the local PostgreSQL (hbm2ddl over the entities V1 covers, with the old unique email
+ * mapping), then baselines it at V1 and migrates.
+ */
+@SpringBootTest
+class MemberMigrationIntegrationTest {
+
+    private static final String EMAIL_UNIQUE_CONSTRAINTS = """
+            SELECT c.conname
+            FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+            WHERE c.conrelid = 'surest.member'::regclass
+              AND c.contype = 'u'
+              AND array_length(c.conkey, 1) = 1
+              AND a.attname = 'email'
+            """;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DataSourceProperties dataSourceProperties;
+
+    private String database;
+    private String url;
+
+    @BeforeEach
+    void createScratchDatabase() {
+        database = "member_migration_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        jdbcTemplate.execute("CREATE DATABASE " + database);
+        String appUrl = dataSourceProperties.getUrl();
+        url = appUrl.substring(0, appUrl.lastIndexOf('/') + 1) + database;
+    }
+
+    @AfterEach
+    void dropScratchDatabase() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + database + " WITH (FORCE)");
+    }
+
+    @Test
+    void testMigrationReplacesTheHibernateNamedEmailConstraintOfADdlAutoSchema() {
+        createSchemaWithDdlAuto();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                dataSourceProperties.getUsername(), dataSourceProperties.getPassword());
+        JdbcTemplate scratch = new JdbcTemplate(dataSource);
+        List<String> before = scratch.queryForList(EMAIL_UNIQUE_CONSTRAINTS, String.class);
+        assertThat(before).hasSize(1).doesNotContain("uk_member_email");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas("surest")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(scratch.queryForList(EMAIL_UNIQUE_CONSTRAINTS, String.class)).isEmpty();
+        assertThat(scratch.queryForObject("SELECT to_regclass('surest.revoked_token') IS NOT NULL", Boolean.class)).isTrue();
+        insert(scratch, "again@example.com", true);
+        insert(scratch, "again@example.com", false);
+        assertThatThrownBy(() -> insert(scratch, "again@example.com", false)).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    // The entities that existed before Flyway (revoked_token came later, with V5); ddl-auto=update created
+    // their tables the same way
+    private void createSchemaWithDdlAuto() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, dataSourceProperties.getUsername())
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, dataSourceProperties.getPassword())
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "update")
+                .applySetting(AvailableSettings.HBM2DDL_CREATE_SCHEMAS, true)
+                .build();
+        try (SessionFactory ignored = new MetadataSources(registry)
+                .addAnnotatedClasses(Member.class, Role.class, User.class)
+                .addResource("legacy-member-orm.xml")
+                .buildMetadata()
+                .buildSessionFactory()) {
+            // The schema is created while the session factory is built
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String email, boolean deleted) {
+        jdbcTemplate.update("""
+                INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at, deleted_at)
+                VALUES (?, 'Archana', 'Pujar', DATE '1995-06-07', ?, now(), now(), CASE WHEN ? THEN now() END)
+                """, UUID.randomUUID(), email, deleted);
+    }
+}
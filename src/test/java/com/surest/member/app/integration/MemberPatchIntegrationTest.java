@@ -0,0 +1,160 @@
+package com.surest.member.app.integration;
+
+import com.surest.member.app.dto.MemberPatchDTO;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.exception.DuplicateResourceException;
+import com.surest.member.app.exception.ResourceNotFoundException;
+import com.surest.member.app.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PATCH against the local PostgreSQL, counting every JDBC statement the application opens:
+ * exactly one per patch, changed or not. Cross-replica invalidation is off here, since its pg_notify
+ * after a change is a separate round trip that is not part of the write.
+ */
+@SpringBootTest(properties = "members.cache.coherence.enabled=false")
+class MemberPatchIntegrationTest {
+
+    // Incremented for every statement created on any pooled connection
+    static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    @TestConfiguration
+    static class StatementCounting {
+
+        private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counting(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource counting(DataSource dataSource) {
+            return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(dataSource, method, args);
+                        return result instanceof Connection connection ? counting(connection) : result;
+                    });
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (STATEMENT_FACTORIES.contains(method.getName())) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        return invoke(connection, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private MemberResponseDTO member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberService.createMember(new MemberRequestDTO("Archana", "Pujar",
+                "patch-" + UUID.randomUUID() + "@gmail.com", LocalDate.of(1995, 6, 7)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'patch-%'");
+    }
+
+    @Test
+    void testPatchIsOneStatementAndChangesOnlyGivenFields() {
+        STATEMENTS.set(0);
+
+        MemberResponseDTO patched = memberService.patchMember(member.getId(), new MemberPatchDTO(null, "Kulkarni", null, null));
+
+        assertThat(STATEMENTS).hasValue(1);
+        assertThat(patched.getLastName()).isEqualTo("Kulkarni");
+        assertThat(patched.getFirstName()).isEqualTo("Archana");
+        assertThat(patched.getEmail()).isEqualTo(member.getEmail());
+        assertThat(patched.getUpdatedAt()).isAfter(member.getUpdatedAt());
+    }
+
+    @Test
+    void testNoOpPatchIsOneStatementAndWritesNothing() {
+        Timestamp before = updatedAt(member.getId());
+        STATEMENTS.set(0);
+
+        MemberResponseDTO result = memberService.patchMember(member.getId(),
+                new MemberPatchDTO("Archana", "Pujar", null, LocalDate.of(1995, 6, 7)));
+
+        assertThat(STATEMENTS).hasValue(1);
+        assertThat(result.getUpdatedAt()).isEqualTo(before);
+        assertThat(updatedAt(member.getId())).isEqualTo(before);
+    }
+
+    @Test
+    void testEmptyPatchIsOneRead() {
+        STATEMENTS.set(0);
+
+        MemberResponseDTO result = memberService.patchMember(member.getId(), new MemberPatchDTO());
+
+        assertThat(STATEMENTS).hasValue(1);
+        assertThat(result.getId()).isEqualTo(member.getId());
+    }
+
+    @Test
+    void testPatchOfMissingMemberIsNotFound() {
+        assertThatThrownBy(() -> memberService.patchMember(UUID.randomUUID(), new MemberPatchDTO("X", null, null, null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testPatchToTakenEmailIsRejected() {
+        MemberResponseDTO other = memberService.createMember(new MemberRequestDTO("Ridha", "Khan",
+                "patch-" + UUID.randomUUID() + "@gmail.com", LocalDate.of(1990, 1, 5)));
+
+        assertThatThrownBy(() -> memberService.patchMember(member.getId(), new MemberPatchDTO(null, null, other.getEmail(), null)))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Email already exists");
+    }
+
+    private Timestamp updatedAt(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM surest.member WHERE id = ?", Timestamp.class, id);
+    }
+}
@@ -0,0 +1,146 @@
+package com.surest.member.app.integration;
+
+import com.surest.member.app.exception.ResourceNotFoundException;
+import com.surest.member.app.service.CountMode;
+import com.surest.member.app.service.MemberService;
+import com.surest.member.app.util.LikePatterns;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks against the local PostgreSQL, at 1M members, that the name filters are served by the pg_trgm
+ * indexes from V2__member_name_search_indexes.sql, and prints filtered search latency. The plans are for
+ * the statements the list endpoint sends with its defaults (sort=id,asc, count=exact), captured from
+ * Hibernate, not for hand-written SQL.
+ * Seeding 1M rows takes a while, so it only runs with ./gradlew test -Dbenchmark=true
+ */
+@SpringBootTest(properties = {
+        "members.page-cache.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.surest.member.app.integration.MemberSearchIndexIntegrationTest$CapturingStatementInspector"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MemberSearchIndexIntegrationTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 10;
+    // GET /api/v1/members defaults
+    private static final String DEFAULT_SORT = "id,asc";
+    private static final int RUNS = 5;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MemberService memberService;
+
+    @BeforeAll
+    void seed() {
+        // Generated server side: 1M rows in a single statement
+        jdbcTemplate.update("""
+                INSERT INTO surest.member (id, first_name, last_name, date_of_birth, email, created_at, updated_at)
+                SELECT gen_random_uuid(), 'First' || md5(g::text), 'Last' || md5((g % 50000)::text),
+                       DATE '1950-01-01' + (g % 20000), 'trgm-seed-' || g || '@example.com', now(), now()
+                FROM generate_series(1, ?) AS g
+                """, ROWS);
+        jdbcTemplate.execute("ANALYZE surest.member");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'trgm-seed-%'");
+    }
+
+    @Test
+    void testFirstNameFilterUsesTrigramIndex() {
+        List<String> plans = explainIssuedQueries("a1b2", null, "first_name");
+
+        assertThat(plans).hasSize(2)
+                .allSatisfy(plan -> assertThat(plan).contains("ix_member_first_name_trgm").doesNotContain("Seq Scan"));
+    }
+
+    @Test
+    void testLastNameFilterUsesTrigramIndex() {
+        List<String> plans = explainIssuedQueries(null, "c3d4", "last_name");
+
+        assertThat(plans).hasSize(2)
+                .allSatisfy(plan -> assertThat(plan).contains("ix_member_last_name_trgm").doesNotContain("Seq Scan"));
+    }
+
+    @Test
+    void testFilteredSearchLatencyAtOneMillionRows() {
+        // warm-up
+        search("first", null);
+
+        System.out.println("filter              median ms (page + exact count)");
+        for (String term : List.of("a1b2", "ffe", "0c9d1")) {
+            long[] nanos = new long[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                search(term, null);
+                nanos[run] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            System.out.printf("firstName~%-9s %12.2f%n", term, nanos[RUNS / 2] / 1e6);
+            assertThat(nanos[RUNS / 2]).isPositive();
+        }
+    }
+
+    // Plans of the statements filtering on the column that one counted list request sent
+    private List<String> explainIssuedQueries(String firstName, String lastName, String column) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        search(firstName, lastName);
+        Pattern filter = Pattern.compile("lower\\(\\w+\\." + column + "\\) like \\?", Pattern.CASE_INSENSITIVE);
+        String pattern = LikePatterns.containsIgnoreCase(firstName != null ? firstName : lastName);
+        return CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> filter.matcher(sql).find())
+                .map(sql -> explain(sql, pattern))
+                .toList();
+    }
+
+    // One list request with the endpoint's defaults
+    private void search(String firstName, String lastName) {
+        try {
+            memberService.getMembers(0, PAGE_SIZE, DEFAULT_SORT, firstName, lastName, CountMode.EXACT);
+        } catch (ResourceNotFoundException e) {
+            // no match for this term is fine: both statements were still sent
+        }
+    }
+
+    // The first parameter is the LIKE pattern; any others are the page bounds
+    private String explain(String sql, String pattern) {
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        parameters[0] = pattern;
+        Arrays.fill(parameters, 1, parameters.length, PAGE_SIZE);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares, as sent to the driver.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
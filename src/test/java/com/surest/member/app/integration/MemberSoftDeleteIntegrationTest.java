@@ -0,0 +1,144 @@
+package com.surest.member.app.integration;
+
+import com.surest.member.app.dto.MemberBulkDeleteDTO;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.exception.ResourceNotFoundException;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.service.MemberBulkService;
+import com.surest.member.app.service.MemberPurger;
+import com.surest.member.app.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Soft delete, bulk delete and purge against the local PostgreSQL. Small chunk and batch sizes so the
+ * chunked paths run more than once.
+ */
+@SpringBootTest(properties = {
+        "members.bulk.chunk-size=2",
+        "members.purge.batch-size=2",
+        "members.purge.pause=PT0S",
+        "members.purge.retention=P7D"
+})
+class MemberSoftDeleteIntegrationTest {
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberBulkService memberBulkService;
+
+    @Autowired
+    MemberPurger memberPurger;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // Unique per test run, so the name filter only matches this test's rows
+    private String lastName;
+
+    @BeforeEach
+    void setUp() {
+        lastName = "Softdel" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'softdel-%'");
+    }
+
+    @Test
+    void testDeletedMemberIsHiddenButKeptUntilPurged() {
+        MemberResponseDTO member = create("Archana");
+
+        memberService.deleteMember(member.getId());
+
+        assertThatThrownBy(() -> memberService.getMemberById(member.getId())).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> memberService.deleteMember(member.getId())).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(memberRepository.existsByEmail(member.getEmail())).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted_at IS NOT NULL FROM surest.member WHERE id = ?",
+                Boolean.class, member.getId())).isTrue();
+    }
+
+    @Test
+    void testEmailOfDeletedMemberCanBeRegisteredAgain() {
+        MemberResponseDTO member = create("Archana");
+        memberService.deleteMember(member.getId());
+
+        MemberResponseDTO again = memberService.createMember(new MemberRequestDTO("Archana", lastName, member.getEmail(),
+                LocalDate.of(1995, 6, 7)));
+
+        assertThat(again.getId()).isNotEqualTo(member.getId());
+        assertThat(memberService.getMemberById(again.getId()).getEmail()).isEqualTo(member.getEmail());
+    }
+
+    @Test
+    void testBulkDeleteByFilterMarksEveryMatchInChunks() {
+        for (int i = 0; i < 5; i++) {
+            create("Member" + i);
+        }
+
+        int deleted = memberBulkService.deleteMembers(new MemberBulkDeleteDTO(null, null, lastName.toLowerCase()));
+
+        assertThat(deleted).isEqualTo(5);
+        assertThat(liveRows()).isZero();
+    }
+
+    @Test
+    void testBulkDeleteByIdsSkipsUnknownAndAlreadyDeletedIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(create("Member" + i).getId());
+        }
+        memberService.deleteMember(ids.get(0));
+        ids.add(UUID.randomUUID());
+
+        int deleted = memberBulkService.deleteMembers(new MemberBulkDeleteDTO(ids, null, null));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(liveRows()).isZero();
+    }
+
+    @Test
+    void testPurgeRemovesOnlyTombstonesPastRetention() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(create("Member" + i).getId());
+        }
+        memberBulkService.deleteMembers(new MemberBulkDeleteDTO(ids, null, null));
+        // Four old enough to purge, one deleted just now
+        jdbcTemplate.update("UPDATE surest.member SET deleted_at = now() - interval '8 days' WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.subList(0, 4).toArray(new UUID[0]))));
+
+        memberPurger.purgeBatches();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM surest.member WHERE last_name = ?", UUID.class, lastName))
+                .containsExactly(ids.get(4));
+    }
+
+    private MemberResponseDTO create(String firstName) {
+        return memberService.createMember(new MemberRequestDTO(firstName, lastName,
+                "softdel-" + UUID.randomUUID() + "@gmail.com", LocalDate.of(1995, 6, 7)));
+    }
+
+    private long liveRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM surest.member WHERE last_name = ? AND deleted_at IS NULL",
+                Long.class, lastName);
+    }
+}
@@ -0,0 +1,128 @@
+package com.surest.member.app.integration;
+
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.exception.DuplicateResourceException;
+import com.surest.member.app.service.MemberService;
+import com.surest.member.app.service.MemberUpsertResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parallel creates and upserts of one email against the local PostgreSQL: exactly one row results,
+ * the losers of a create race get a 409 (DuplicateResourceException) rather than a constraint error.
+ */
+@SpringBootTest
+class MemberUpsertConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "upsert-" + UUID.randomUUID() + "@gmail.com";
+    }
+
+    @AfterEach
+    void cleanUp() {
+        executor.shutdownNow();
+        jdbcTemplate.update("DELETE FROM surest.member WHERE email LIKE 'upsert-%'");
+    }
+
+    @Test
+    void testParallelCreatesOfOneEmailYieldOneMemberAndConflicts() throws Exception {
+        List<Object> outcomes = race(i -> memberService.createMember(request("Racer" + i)));
+
+        assertThat(outcomes).filteredOn(o -> !(o instanceof Throwable)).hasSize(1);
+        assertThat(outcomes).filteredOn(o -> o instanceof Throwable)
+                .hasSize(THREADS - 1)
+                .allMatch(o -> o instanceof DuplicateResourceException);
+        assertThat(liveRows()).isEqualTo(1);
+    }
+
+    @Test
+    void testParallelUpsertsOfOneEmailCreateOnceAndNeverFail() throws Exception {
+        List<Object> outcomes = race(i -> memberService.upsertMemberByEmail(email, request("Racer" + i)));
+
+        assertThat(outcomes).allMatch(o -> o instanceof MemberUpsertResult);
+        assertThat(outcomes).filteredOn(o -> ((MemberUpsertResult) o).created()).hasSize(1);
+        assertThat(outcomes).extracting(o -> ((MemberUpsertResult) o).member().getId()).containsOnly(
+                ((MemberUpsertResult) outcomes.get(0)).member().getId());
+        assertThat(liveRows()).isEqualTo(1);
+    }
+
+    @Test
+    void testRepeatedUpsertWithSameValuesWritesNothing() {
+        MemberUpsertResult created = memberService.upsertMemberByEmail(email, request("Archana"));
+        MemberUpsertResult again = memberService.upsertMemberByEmail(email, request("Archana"));
+        MemberUpsertResult edited = memberService.upsertMemberByEmail(email, request("Edited"));
+
+        assertThat(created.created()).isTrue();
+        assertThat(again.created()).isFalse();
+        assertThat(again.member().getUpdatedAt()).isEqualTo(created.member().getUpdatedAt());
+        assertThat(edited.member().getFirstName()).isEqualTo("Edited");
+        assertThat(edited.member().getUpdatedAt()).isAfter(created.member().getUpdatedAt());
+    }
+
+    // Runs the call on every thread at once; each slot holds the result or the exception thrown
+    private List<Object> race(IndexedCall call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            Callable<Object> task = () -> {
+                start.await();
+                try {
+                    return call.run(index);
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+        List<Object> outcomes = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            outcomes.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return outcomes;
+    }
+
+    private MemberRequestDTO request(String firstName) {
+        return new MemberRequestDTO(firstName, "Pujar", email, LocalDate.of(1995, 6, 7));
+    }
+
+    private long liveRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM surest.member WHERE email = ? AND deleted_at IS NULL",
+                Long.class, email);
+    }
+
+    @FunctionalInterface
+    private interface IndexedCall {
+        Object run(int index);
+    }
+}
@@ -0,0 +1,77 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.entity.Role;
+import com.surest.member.app.entity.User;
+import com.surest.member.app.repository.UserRepository;
+import com.surest.member.app.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    private UserRepository userRepository;
+    private CustomUserDetailsService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        service = new CustomUserDetailsService(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+        Role role = new Role();
+        role.setRoleName("admin");
+        User user = new User();
+        user.setUsername("archana");
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        when(userRepository.findWithRoleByUsername("archana")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void testRepeatLookupsHitTheCache() {
+        UserDetails first = service.loadUserByUsername("archana");
+        UserDetails second = service.loadUserByUsername("archana");
+
+        assertThat(second.getPassword()).isEqualTo("hash");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        assertThat(first).isNotSameAs(second);
+        verify(userRepository, times(1)).findWithRoleByUsername("archana");
+    }
+
+    @Test
+    void testErasedCredentialsDoNotLeakIntoCache() {
+        UserDetails first = service.loadUserByUsername("archana");
+        ((CredentialsContainer) first).eraseCredentials();
+
+        assertThat(service.loadUserByUsername("archana").getPassword()).isEqualTo("hash");
+    }
+
+    @Test
+    void testEvictForcesReload() {
+        service.loadUserByUsername("archana");
+        service.evict("archana");
+        service.loadUserByUsername("archana");
+
+        verify(userRepository, times(2)).findWithRoleByUsername("archana");
+    }
+
+    @Test
+    void testUnknownUserThrowsAndIsNotCached() {
+        when(userRepository.findWithRoleByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(2)).findWithRoleByUsername("ghost");
+    }
+}
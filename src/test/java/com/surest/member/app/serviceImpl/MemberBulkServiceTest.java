@@ -0,0 +1,255 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.MemberBulkDeleteDTO;
+import com.surest.member.app.dto.MemberBulkResultDTO;
+import com.surest.member.app.dto.MemberBulkResultDTO.Status;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.repository.MemberDeletionRepository;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.service.MemberBulkService;
+import com.surest.member.app.service.MemberChangedEvent;
+import com.surest.member.app.service.MemberCountService;
+import com.surest.member.app.service.MemberEmailFilter;
+import com.surest.member.app.service.MembersDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MemberBulkServiceTest {
+
+    private MemberRepository repository;
+    private MemberDeletionRepository deletionRepository;
+    private MemberCountService countService;
+    private ApplicationEventPublisher eventPublisher;
+    private CacheManager cacheManager;
+    private MemberEmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MemberRepository.class);
+        deletionRepository = mock(MemberDeletionRepository.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.MEMBERS);
+        countService = mock(MemberCountService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        // Not loaded: every email is a "maybe", as before the first rebuild
+        emailFilter = new MemberEmailFilter(repository, new SimpleMeterRegistry(), true, 1000, 0.01);
+
+        // Persisting assigns the generated UUID
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Member> members = invocation.getArgument(0);
+            members.forEach(m -> m.setId(UUID.randomUUID()));
+            return members;
+        });
+        when(repository.save(any(Member.class))).thenAnswer(invocation -> {
+            Member member = invocation.getArgument(0);
+            member.setId(UUID.randomUUID());
+            return member;
+        });
+    }
+
+    @Test
+    void testBulkReportsPerItemResults() {
+        when(repository.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@gmail.com"));
+
+        List<MemberBulkResultDTO> results = service(1000).createMembers(List.of(
+                request("new@gmail.com"),
+                request("taken@gmail.com"),
+                request("new@gmail.com"),
+                request("not-an-email"),
+                new MemberRequestDTO("", "Pujar", "blank@gmail.com", LocalDate.of(1995, 6, 7))
+        ));
+
+        assertThat(results).extracting(MemberBulkResultDTO::getStatus)
+                .containsExactly(Status.CREATED, Status.DUPLICATE, Status.DUPLICATE, Status.INVALID, Status.INVALID);
+        assertThat(results).extracting(MemberBulkResultDTO::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results.get(0).getId()).isNotNull();
+        assertThat(results.get(4).getMessage()).isEqualTo("First name is required");
+
+        // one duplicate query and one batched insert for the whole request
+        verify(repository, times(1)).findExistingEmails(anyCollection());
+        verify(repository, times(1)).saveAll(anyList());
+        verify(repository, never()).existsByEmail(any());
+        verify(eventPublisher, times(1)).publishEvent(any(MemberChangedEvent.class));
+        verify(countService).invalidateCachedCounts();
+    }
+
+    @Test
+    void testOnlyEmailsTheFilterCannotRuleOutAreQueried() {
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            consumer.accept("Taken@Gmail.com");
+            return null;
+        }).when(repository).forEachEmail(any());
+        emailFilter.load();
+        when(repository.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@gmail.com"));
+
+        List<MemberBulkResultDTO> results = service(1000).createMembers(List.of(
+                request("new1@gmail.com"), request("taken@gmail.com"), request("new2@gmail.com")));
+
+        assertThat(results).extracting(MemberBulkResultDTO::getStatus)
+                .containsExactly(Status.CREATED, Status.DUPLICATE, Status.CREATED);
+        verify(repository).findExistingEmails(List.of("taken@gmail.com"));
+    }
+
+    @Test
+    void testNoDuplicateQueryWhenTheFilterRulesOutEveryEmail() {
+        emailFilter.load();
+
+        List<MemberBulkResultDTO> results = service(1000).createMembers(List.of(
+                request("new1@gmail.com"), request("new2@gmail.com")));
+
+        assertThat(results).allMatch(r -> r.getStatus() == Status.CREATED);
+        verify(repository, never()).findExistingEmails(anyCollection());
+    }
+
+    @Test
+    void testInsertsAreCommittedInChunks() {
+        when(repository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        List<MemberRequestDTO> requests = new ArrayList<>();
+        IntStream.range(0, 5).forEach(i -> requests.add(request("member" + i + "@gmail.com")));
+
+        List<MemberBulkResultDTO> results = service(2).createMembers(requests);
+
+        assertThat(results).allMatch(r -> r.getStatus() == Status.CREATED);
+        verify(repository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void testChunkConstraintViolationFallsBackToRowByRow() {
+        when(repository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        doThrow(new DataIntegrityViolationException("uk_member_email")).when(repository).saveAll(anyList());
+        doThrow(new DataIntegrityViolationException("uk_member_email")).when(repository)
+                .save(ArgumentMatchers.<Member>argThat(m -> "raced@gmail.com".equals(m.getEmail())));
+
+        List<MemberBulkResultDTO> results = service(1000).createMembers(List.of(
+                request("ok@gmail.com"), request("raced@gmail.com")));
+
+        assertThat(results).extracting(MemberBulkResultDTO::getStatus).containsExactly(Status.CREATED, Status.DUPLICATE);
+    }
+
+    @Test
+    void testBulkOverLimitIsRejected() {
+        MemberBulkService small = new MemberBulkService(repository, deletionRepository, transactionTemplate(),
+                Validation.buildDefaultValidatorFactory().getValidator(), countService, eventPublisher, cacheManager, emailFilter, 1, 1000);
+
+        assertThatThrownBy(() -> small.createMembers(List.of(request("a@gmail.com"), request("b@gmail.com"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> small.createMembers(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDeleteByIdsIsChunkedAndEvictsWhatWasDeleted() {
+        List<UUID> ids = IntStream.range(0, 5).mapToObj(i -> UUID.randomUUID()).toList();
+        ids.forEach(id -> cacheManager.getCache(CacheConfig.MEMBERS).put(id, "cached"));
+        // the last id is unknown or already deleted
+        when(deletionRepository.softDeleteAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).stream().filter(id -> !id.equals(ids.get(4))).toList());
+
+        int deleted = service(2).deleteMembers(new MemberBulkDeleteDTO(ids, null, null));
+
+        assertThat(deleted).isEqualTo(4);
+        verify(deletionRepository, times(3)).softDeleteAll(anyList());
+        assertThat(ids.subList(0, 4)).allMatch(id -> cacheManager.getCache(CacheConfig.MEMBERS).get(id) == null);
+        verify(eventPublisher).publishEvent(new MembersDeletedEvent(ids.subList(0, 4)));
+        verify(countService).invalidateCachedCounts();
+    }
+
+    @Test
+    void testDeleteByFilterRepeatsUntilAShortChunk() {
+        when(deletionRepository.softDeleteMatching("Arch", null, 2)).thenReturn(
+                List.of(UUID.randomUUID(), UUID.randomUUID()),
+                List.of(UUID.randomUUID(), UUID.randomUUID()),
+                List.of(UUID.randomUUID()));
+
+        int deleted = service(2).deleteMembers(new MemberBulkDeleteDTO(null, "Arch", null));
+
+        assertThat(deleted).isEqualTo(5);
+        verify(deletionRepository, times(3)).softDeleteMatching("Arch", null, 2);
+        // Published chunk by chunk, so no list of every matched id is kept
+        verify(eventPublisher, times(3)).publishEvent(any(MembersDeletedEvent.class));
+    }
+
+    @Test
+    void testDeleteByFilterStopsAtMaxSize() {
+        when(deletionRepository.softDeleteMatching(eq("Arch"), isNull(), anyInt()))
+                .thenAnswer(invocation -> IntStream.range(0, invocation.<Integer>getArgument(2)).mapToObj(i -> UUID.randomUUID()).toList());
+        MemberBulkService capped = new MemberBulkService(repository, deletionRepository, transactionTemplate(),
+                Validation.buildDefaultValidatorFactory().getValidator(), countService, eventPublisher, cacheManager,
+                emailFilter, 5, 2);
+
+        int deleted = capped.deleteMembers(new MemberBulkDeleteDTO(null, "Arch", null));
+
+        assertThat(deleted).isEqualTo(5);
+        verify(deletionRepository, times(2)).softDeleteMatching("Arch", null, 2);
+        verify(deletionRepository).softDeleteMatching("Arch", null, 1);
+        verifyNoMoreInteractions(deletionRepository);
+    }
+
+    @Test
+    void testDeleteWithoutIdsOrFilterIsRejected() {
+        assertThatThrownBy(() -> service(2).deleteMembers(new MemberBulkDeleteDTO(List.of(), " ", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service(2).deleteMembers(new MemberBulkDeleteDTO(List.of(UUID.randomUUID()), "Arch", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(deletionRepository, eventPublisher);
+    }
+
+    @Test
+    void testDeleteThatMatchesNothingPublishesNothing() {
+        when(deletionRepository.softDeleteMatching(any(), any(), anyInt())).thenReturn(List.of());
+
+        assertThat(service(2).deleteMembers(new MemberBulkDeleteDTO(null, null, "Nobody"))).isZero();
+        verifyNoInteractions(eventPublisher, countService);
+    }
+
+    @Test
+    void testChunksDeletedBeforeAFailureAreStillPublished() {
+        UUID first = UUID.randomUUID();
+        when(deletionRepository.softDeleteAll(anyList()))
+                .thenReturn(List.of(first))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        assertThatThrownBy(() -> service(1).deleteMembers(new MemberBulkDeleteDTO(List.of(first, UUID.randomUUID()), null, null)))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(eventPublisher).publishEvent(new MembersDeletedEvent(List.of(first)));
+    }
+
+    private MemberBulkService service(int chunkSize) {
+        return new MemberBulkService(repository, deletionRepository, transactionTemplate(),
+                Validation.buildDefaultValidatorFactory().getValidator(), countService, eventPublisher, cacheManager,
+                emailFilter, 50_000, chunkSize);
+    }
+
+    // Runs callbacks inline against a no-op transaction manager
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+
+    private MemberRequestDTO request(String email) {
+        return new MemberRequestDTO("Archana", "Pujar", email, LocalDate.of(1995, 6, 7));
+    }
+}
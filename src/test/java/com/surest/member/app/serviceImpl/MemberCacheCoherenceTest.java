@@ -0,0 +1,147 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.service.MemberCacheCoherence;
+import com.surest.member.app.service.MemberChangedEvent;
+import com.surest.member.app.service.MemberCountService;
+import com.surest.member.app.service.MemberPageCache;
+import com.surest.member.app.service.MembersDeletedEvent;
+import com.surest.member.app.service.MembersImportedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MemberCacheCoherenceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private MemberCountService countService;
+    private MemberPageCache pageCache;
+    private SimpleMeterRegistry meterRegistry;
+    private Cache members;
+    private MemberCacheCoherence coherence;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        countService = mock(MemberCountService.class);
+        pageCache = mock(MemberPageCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.MEMBERS);
+        members = cacheManager.getCache(CacheConfig.MEMBERS);
+        coherence = coherence(cacheManager, "member_changes");
+    }
+
+    @Test
+    void testUpdateAndDeleteAreAnnouncedWithThisNodesId() {
+        UUID id = UUID.randomUUID();
+
+        coherence.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, id, member(id)));
+        coherence.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, id, member(id)));
+
+        verify(jdbcTemplate, times(2)).queryForList("SELECT pg_notify(?, ?)", "member_changes",
+                coherence.nodeId() + ":EVICT:" + id);
+    }
+
+    @Test
+    void testCreatesAreNotAnnounced() {
+        UUID id = UUID.randomUUID();
+
+        coherence.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, id, member(id)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testImportsAnnounceAFullFlush() {
+        coherence.onMembersImported(new MembersImportedEvent(UUID.randomUUID(), 10));
+
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", "member_changes", coherence.nodeId() + ":FLUSH");
+    }
+
+    @Test
+    void testBulkDeletesAnnounceAFullFlush() {
+        coherence.onMembersDeleted(new MembersDeletedEvent(List.of(UUID.randomUUID(), UUID.randomUUID())));
+
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", "member_changes", coherence.nodeId() + ":FLUSH");
+    }
+
+    @Test
+    void testNotifyFailureDoesNotFailTheWrite() {
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        UUID id = UUID.randomUUID();
+
+        assertThatCode(() -> coherence.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, id, member(id))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void testEvictFromAnotherNodeRemovesOnlyThatEntry() {
+        UUID edited = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        members.put(edited, member(edited));
+        members.put(untouched, member(untouched));
+
+        coherence.applyNotification(UUID.randomUUID() + ":EVICT:" + edited);
+
+        assertThat(members.get(edited)).isNull();
+        assertThat(members.get(untouched)).isNotNull();
+        verify(countService).invalidateCachedCounts();
+        verify(pageCache).invalidate();
+        assertThat(meterRegistry.get("members.cache.coherence.received").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testOwnMessagesAreIgnored() {
+        UUID id = UUID.randomUUID();
+        members.put(id, member(id));
+
+        coherence.applyNotification(coherence.nodeId() + ":EVICT:" + id);
+        coherence.applyNotification(coherence.nodeId() + ":FLUSH");
+
+        assertThat(members.get(id)).isNotNull();
+        verifyNoInteractions(countService, pageCache);
+    }
+
+    @Test
+    void testFlushFromAnotherNodeClearsLocalCache() {
+        UUID id = UUID.randomUUID();
+        members.put(id, member(id));
+
+        coherence.applyNotification(UUID.randomUUID() + ":FLUSH");
+
+        assertThat(members.get(id)).isNull();
+        assertThat(meterRegistry.get("members.cache.coherence.flushes").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testChannelMustBeAnIdentifier() {
+        assertThatThrownBy(() -> coherence(new ConcurrentMapCacheManager(), "changes; DROP TABLE x"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MemberCacheCoherence coherence(ConcurrentMapCacheManager cacheManager, String channel) {
+        return new MemberCacheCoherence(jdbcTemplate, cacheManager, countService, pageCache, meterRegistry, true, channel,
+                "jdbc:postgresql://localhost:5432/unused", "postgres", "unused", Duration.ofSeconds(10), Duration.ofSeconds(30));
+    }
+
+    private static MemberResponseDTO member(UUID id) {
+        return new MemberResponseDTO(id, "Archana", "Pujar", "archanapujar@gmail.com", LocalDate.of(1995, 6, 7));
+    }
+}
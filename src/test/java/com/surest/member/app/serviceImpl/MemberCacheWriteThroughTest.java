@@ -0,0 +1,241 @@
+package com.surest.member.app.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.MemberPatchDTO;
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.entity.Member;
+import com.surest.member.app.repository.MemberDeletionRepository;
+import com.surest.member.app.repository.MemberPatchRepository;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.repository.MemberUpsertRepository;
+import com.surest.member.app.service.MemberCacheWarmer;
+import com.surest.member.app.service.MemberCountService;
+import com.surest.member.app.service.MemberPageCache;
+import com.surest.member.app.service.MemberService;
+import com.surest.member.app.service.MemberServiceImpl;
+import com.surest.member.app.util.MemberMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs MemberServiceImpl behind the real caching proxy and CacheConfig, with an in-memory repository,
+ * to check the members cache miss rate after create/update-heavy workloads.
+ */
+@SpringJUnitConfig(MemberCacheWriteThroughTest.Config.class)
+@TestPropertySource(properties = "app.cache.specs.members=maximumSize=10000,expireAfterWrite=10m,recordStats")
+class MemberCacheWriteThroughTest {
+
+    private static final int MEMBERS = 500;
+
+    @Configuration
+    @EnableCaching
+    @Import(CacheConfig.class)
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        MemberRepository memberRepository() {
+            return mock(MemberRepository.class);
+        }
+
+        @Bean
+        MemberPatchRepository memberPatchRepository() {
+            return mock(MemberPatchRepository.class);
+        }
+
+        @Bean
+        MemberDeletionRepository memberDeletionRepository() {
+            return mock(MemberDeletionRepository.class);
+        }
+
+        @Bean
+        MemberUpsertRepository memberUpsertRepository() {
+            return mock(MemberUpsertRepository.class);
+        }
+
+        @Bean
+        MemberService memberService(MemberRepository memberRepository, MemberPatchRepository memberPatchRepository,
+                                    MemberDeletionRepository memberDeletionRepository,
+                                    MemberUpsertRepository memberUpsertRepository,
+                                    ApplicationEventPublisher eventPublisher, CacheManager cacheManager) {
+            return new MemberServiceImpl(memberRepository, mock(MemberCountService.class), eventPublisher,
+                    mock(MemberPageCache.class), memberPatchRepository, memberDeletionRepository,
+                    memberUpsertRepository, cacheManager);
+        }
+    }
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberPatchRepository memberPatchRepository;
+
+    @Autowired
+    MemberDeletionRepository memberDeletionRepository;
+
+    @Autowired
+    MemberUpsertRepository memberUpsertRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    // Stand-in for the member table
+    private final Map<UUID, Member> table = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        reset(memberRepository, memberPatchRepository, memberDeletionRepository, memberUpsertRepository);
+        nativeCache().invalidateAll();
+        table.clear();
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> {
+            Member member = invocation.getArgument(0);
+            if (member.getId() == null) {
+                member.setId(UUID.randomUUID());
+            }
+            table.put(member.getId(), member);
+            return member;
+        });
+        when(memberUpsertRepository.insert(any(MemberRequestDTO.class))).thenAnswer(invocation -> {
+            Member member = MemberMapper.toEntity(invocation.getArgument(0));
+            member.setId(UUID.randomUUID());
+            table.put(member.getId(), member);
+            return Optional.of(MemberMapper.toResponse(member));
+        });
+        when(memberRepository.findById(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.<UUID>getArgument(0))));
+    }
+
+    @Test
+    void testReadsAfterCreatesAreAllHits() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            ids.add(memberService.createMember(request("First" + i, i)).getId());
+        }
+        CacheStats before = nativeCache().stats();
+
+        ids.forEach(memberService::getMemberById);
+
+        CacheStats reads = nativeCache().stats().minus(before);
+        assertThat(reads.missCount()).isZero();
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    void testReadsAfterUpdatesAreHitsWithTheNewValue() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            ids.add(memberService.createMember(request("First" + i, i)).getId());
+        }
+        // Write-heavy: every member edited three times, each edit followed by a read
+        CacheStats before = nativeCache().stats();
+        for (int round = 1; round <= 3; round++) {
+            for (int i = 0; i < MEMBERS; i++) {
+                memberService.updateMember(ids.get(i), request("Edited" + round + "-" + i, i));
+                MemberResponseDTO read = memberService.getMemberById(ids.get(i));
+                assertThat(read.getFirstName()).isEqualTo("Edited" + round + "-" + i);
+            }
+        }
+
+        CacheStats reads = nativeCache().stats().minus(before);
+        assertThat(reads.requestCount()).isEqualTo(3L * MEMBERS);
+        assertThat(reads.missCount()).isZero();
+        // Only the updates themselves read the row
+        verify(memberRepository, times(3 * MEMBERS)).findById(any());
+    }
+
+    @Test
+    void testDeleteStillEvicts() {
+        MemberResponseDTO created = memberService.createMember(request("Archana", 1));
+        UUID id = created.getId();
+        when(memberDeletionRepository.softDelete(id)).thenReturn(Optional.of(created));
+
+        memberService.deleteMember(id);
+
+        assertThat(cacheManager.getCache(CacheConfig.MEMBERS).get(id)).isNull();
+    }
+
+    @Test
+    void testPatchWritesThroughOnlyWhenSomethingChanged() {
+        UUID id = memberService.createMember(request("Archana", 1)).getId();
+        MemberResponseDTO cached = memberService.getMemberById(id);
+
+        MemberResponseDTO unchanged = new MemberResponseDTO(id, "Archana", "Pujar", "member1@gmail.com", LocalDate.of(1995, 6, 7));
+        when(memberPatchRepository.patch(eq(id), any())).thenReturn(Optional.of(new MemberPatchRepository.Result(unchanged, false)));
+        memberService.patchMember(id, new MemberPatchDTO("Archana", null, null, null));
+        assertThat(cacheManager.getCache(CacheConfig.MEMBERS).get(id).get()).isSameAs(cached);
+
+        MemberResponseDTO edited = new MemberResponseDTO(id, "Edited", "Pujar", "member1@gmail.com", LocalDate.of(1995, 6, 7));
+        when(memberPatchRepository.patch(eq(id), any())).thenReturn(Optional.of(new MemberPatchRepository.Result(edited, true)));
+        memberService.patchMember(id, new MemberPatchDTO("Edited", null, null, null));
+        CacheStats before = nativeCache().stats();
+
+        assertThat(memberService.getMemberById(id).getFirstName()).isEqualTo("Edited");
+        assertThat(nativeCache().stats().minus(before).missCount()).isZero();
+    }
+
+    @Test
+    void testWarmUpPreloadsMostRecentlyUpdatedMembers() {
+        List<MemberResponseDTO> recent = List.of(
+                new MemberResponseDTO(UUID.randomUUID(), "Archana", "Pujar", "archanapujar@gmail.com", LocalDate.of(1995, 6, 7)),
+                new MemberResponseDTO(UUID.randomUUID(), "Ridha", "Khan", "ridha@gmail.com", LocalDate.of(1990, 1, 5)));
+        when(memberRepository.findMostRecentlyUpdated(any(Pageable.class))).thenReturn(recent);
+
+        new MemberCacheWarmer(memberRepository, cacheManager, 2).warmUp();
+        CacheStats before = nativeCache().stats();
+        recent.forEach(member -> memberService.getMemberById(member.getId()));
+
+        assertThat(nativeCache().stats().minus(before).missCount()).isZero();
+        verify(memberRepository).findMostRecentlyUpdated(Pageable.ofSize(2));
+    }
+
+    @Test
+    void testWarmUpIsOffByDefault() {
+        new MemberCacheWarmer(memberRepository, cacheManager, 0).warmUp();
+
+        verify(memberRepository, never()).findMostRecentlyUpdated(any());
+    }
+
+    private Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) cacheManager.getCache(CacheConfig.MEMBERS)).getNativeCache();
+    }
+
+    private static MemberRequestDTO request(String firstName, int i) {
+        return new MemberRequestDTO(firstName, "Pujar", "member" + i + "@gmail.com", LocalDate.of(1995, 6, 7));
+    }
+}
@@ -0,0 +1,181 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.service.MemberChangedEvent;
+import com.surest.member.app.service.MemberEmailFilter;
+import com.surest.member.app.service.MembersImportedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MemberEmailFilterTest {
+
+    private MemberRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    // The email column as the rebuild streams it
+    private List<String> table;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MemberRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        table = new ArrayList<>(List.of("archana@gmail.com", "Pujar@Example.com"));
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            List.copyOf(table).forEach(consumer);
+            return null;
+        }).when(repository).forEachEmail(any());
+    }
+
+    @Test
+    void testEverythingIsAMaybeUntilLoaded() {
+        MemberEmailFilter filter = filter(true);
+
+        assertThat(filter.mightExist("new@gmail.com")).isTrue();
+        verify(repository, never()).forEachEmail(any());
+    }
+
+    @Test
+    void testLoadedFilterRulesOutUnknownEmailsIgnoringCase() {
+        MemberEmailFilter filter = filter(true);
+        filter.load();
+
+        assertThat(filter.mightExist("ARCHANA@gmail.com ")).isTrue();
+        assertThat(filter.mightExist("pujar@example.com")).isTrue();
+        assertThat(filter.mightExist("new@gmail.com")).isFalse();
+        assertThat(filter.possiblyExisting(List.of("new@gmail.com", "archana@gmail.com")))
+                .containsExactly("archana@gmail.com");
+        assertThat(meterRegistry.get("members.email-filter.skipped").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("members.email-filter.emails").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("members.email-filter.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    void testCreatesAndDeletesAreTracked() {
+        MemberEmailFilter filter = filter(true);
+        filter.load();
+        MemberResponseDTO created = member("new@gmail.com");
+
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, created.getId(), created));
+        assertThat(filter.mightExist("new@gmail.com")).isTrue();
+
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, created.getId(), created));
+        assertThat(filter.mightExist("new@gmail.com")).isFalse();
+        assertThat(filter.mightExist("archana@gmail.com")).isTrue();
+    }
+
+    @Test
+    void testDeleteOfAnEmailThisNodeDidNotAddIsLeftToTheRebuild() {
+        MemberEmailFilter filter = filter(true);
+        filter.load();
+        MemberResponseDTO streamed = member("archana@gmail.com");
+        MemberResponseDTO elsewhere = member("other-replica@gmail.com");
+
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, streamed.getId(), streamed));
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, elsewhere.getId(), elsewhere));
+
+        assertThat(filter.mightExist("archana@gmail.com")).isTrue();
+        assertThat(filter.mightExist("pujar@example.com")).isTrue();
+        assertThat(meterRegistry.get("members.email-filter.emails").gauge().value()).isEqualTo(2.0);
+
+        table.remove("archana@gmail.com");
+        filter.scheduledRebuild();
+        assertThat(filter.mightExist("archana@gmail.com")).isFalse();
+    }
+
+    @Test
+    void testRepeatedUpdatesAreCountedOnce() {
+        MemberEmailFilter filter = filter(true);
+        filter.load();
+        MemberResponseDTO created = member("new@gmail.com");
+
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, created.getId(), created));
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, created.getId(), created));
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, created.getId(), created));
+
+        assertThat(filter.mightExist("new@gmail.com")).isFalse();
+        assertThat(meterRegistry.get("members.email-filter.emails").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void testRebuildShedsEmailsThatAreGone() {
+        MemberEmailFilter filter = filter(true);
+        filter.load();
+        MemberResponseDTO renamed = member("renamed@gmail.com");
+        // archana@gmail.com changed to renamed@gmail.com: the old email cannot be removed from the event
+        filter.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, renamed.getId(), renamed));
+        table.set(0, "renamed@gmail.com");
+        assertThat(filter.mightExist("archana@gmail.com")).isTrue();
+
+        filter.scheduledRebuild();
+
+        assertThat(filter.mightExist("archana@gmail.com")).isFalse();
+        assertThat(filter.mightExist("renamed@gmail.com")).isTrue();
+    }
+
+    @Test
+    void testImportTriggersRebuildOffTheCallingThread() throws InterruptedException {
+        MemberEmailFilter filter = filter(true);
+        filter.load();
+        table.add("imported@gmail.com");
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            Consumer<String> consumer = invocation.getArgument(0);
+            List.copyOf(table).forEach(consumer);
+            return null;
+        }).when(repository).forEachEmail(any());
+
+        // Returns while the rebuild is still waiting on the database
+        filter.onMembersImported(new MembersImportedEvent(UUID.randomUUID(), 1));
+        assertThat(filter.mightExist("imported@gmail.com")).isFalse();
+        release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!filter.mightExist("imported@gmail.com") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(filter.mightExist("imported@gmail.com")).isTrue();
+        verify(repository, times(2)).forEachEmail(any());
+        filter.shutdown();
+    }
+
+    @Test
+    void testDisabledFilterNeverLoadsAndRulesOutNothing() {
+        MemberEmailFilter filter = filter(false);
+        filter.load();
+
+        assertThat(filter.mightExist("new@gmail.com")).isTrue();
+        verify(repository, never()).forEachEmail(any());
+    }
+
+    @Test
+    void testFalsePositiveRateMustBeAProbability() {
+        assertThatThrownBy(() -> new MemberEmailFilter(repository, meterRegistry, true, 1000, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MemberEmailFilter filter(boolean enabled) {
+        return new MemberEmailFilter(repository, meterRegistry, enabled, 1000, 0.01);
+    }
+
+    private static MemberResponseDTO member(String email) {
+        return new MemberResponseDTO(UUID.randomUUID(), "Archana", "Pujar", email, LocalDate.of(1995, 6, 7),
+                new Timestamp(System.currentTimeMillis()));
+    }
+}
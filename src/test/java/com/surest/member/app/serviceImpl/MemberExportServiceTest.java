@@ -0,0 +1,151 @@
+package com.surest.member.app.serviceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.service.MemberExportService;
+import com.surest.member.app.service.MemberFileFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class MemberExportServiceTest {
+
+    private static final UUID ID = UUID.fromString("7f3c2a51-0d4e-4b8a-9c61-2f5e8d9a1b30");
+
+    private MemberRepository repository;
+    private MemberExportService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MemberRepository.class);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new MemberExportService(repository, objectMapper);
+    }
+
+    @Test
+    void testNdjsonWritesOneObjectPerLine() throws IOException {
+        streamRows(List.of(
+                new MemberResponseDTO(ID, "Archana", "Pujar", "archanapujar@gmail.com", LocalDate.parse("1995-06-07")),
+                new MemberResponseDTO(ID, "Ridha", "Khan", "ridha@gmail.com", LocalDate.parse("1990-01-05"))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.export(MemberFileFormat.NDJSON, null, null, false, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":\"" + ID + "\",\"firstName\":\"Archana\",\"lastName\":\"Pujar\","
+                        + "\"email\":\"archanapujar@gmail.com\",\"dateOfBirth\":\"1995-06-07\"}\n"
+                        + "{\"id\":\"" + ID + "\",\"firstName\":\"Ridha\",\"lastName\":\"Khan\","
+                        + "\"email\":\"ridha@gmail.com\",\"dateOfBirth\":\"1990-01-05\"}\n");
+    }
+
+    @Test
+    void testCsvHasImportCompatibleHeaderAndQuotesOnlyWhenNeeded() throws IOException {
+        streamRows(List.of(
+                new MemberResponseDTO(ID, "Archana", "Pujar, Jr", "archanapujar@gmail.com", LocalDate.parse("1995-06-07")),
+                new MemberResponseDTO(ID, "Ri\"dha", "Khan", "ridha@gmail.com", LocalDate.parse("1990-01-05"))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(MemberFileFormat.CSV, null, null, false, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,firstName,lastName,email,dateOfBirth
+                %1$s,Archana,"Pujar, Jr",archanapujar@gmail.com,1995-06-07
+                %1$s,"Ri""dha",Khan,ridha@gmail.com,1990-01-05
+                """.formatted(ID));
+    }
+
+    @Test
+    void testGzipOutputDecompressesToSameRows() throws IOException {
+        streamRows(List.of(
+                new MemberResponseDTO(ID, "Archana", "Pujar", "archanapujar@gmail.com", LocalDate.parse("1995-06-07"))));
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        service.export(MemberFileFormat.CSV, null, null, false, plain);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        service.export(MemberFileFormat.CSV, null, null, true, compressed);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.toByteArray());
+        }
+    }
+
+    @Test
+    void testNameFiltersArePassedToRepository() throws IOException {
+        streamRows(List.of());
+
+        long rows = service.export(MemberFileFormat.NDJSON, "arch", null, false, new ByteArrayOutputStream());
+
+        assertThat(rows).isZero();
+        verify(repository).forEachMember(eq("arch"), isNull(), any());
+    }
+
+    @Test
+    void testRowsReachTheOutputWhileTheCursorIsStillOpen() throws IOException {
+        int total = 200_000;
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        long[] bytesSeenMidway = new long[1];
+        doAnswer(invocation -> {
+            Consumer<MemberResponseDTO> consumer = invocation.getArgument(2);
+            MemberResponseDTO member = new MemberResponseDTO(ID, "Archana", "Pujar", "archanapujar@gmail.com",
+                    LocalDate.parse("1995-06-07"));
+            for (int i = 0; i < total; i++) {
+                consumer.accept(member);
+                if (i == total / 2) {
+                    bytesSeenMidway[0] = sink.size();
+                }
+            }
+            return null;
+        }).when(repository).forEachMember(any(), any(), any());
+
+        service.export(MemberFileFormat.NDJSON, null, null, false, sink);
+
+        // Output is bounded by the write buffer, not accumulated until the cursor is exhausted
+        assertThat(bytesSeenMidway[0]).isGreaterThan(sink.size() / 3);
+    }
+
+    @Test
+    void testClientDisconnectSurfacesAsIOException() {
+        streamRows(List.of(
+                new MemberResponseDTO(ID, "Archana", "Pujar", "archanapujar@gmail.com", LocalDate.parse("1995-06-07"))));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // The first row fits in the buffer, so the failure shows up on the final flush
+        assertThatThrownBy(() -> service.export(MemberFileFormat.CSV, null, null, false, broken))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+
+    private void streamRows(List<MemberResponseDTO> rows) {
+        doAnswer(invocation -> {
+            Consumer<MemberResponseDTO> consumer = invocation.getArgument(2);
+            rows.forEach(consumer);
+            return null;
+        }).when(repository).forEachMember(any(), any(), any());
+    }
+}
@@ -0,0 +1,170 @@
+package com.surest.member.app.serviceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest.member.app.dto.MemberImportRejectionDTO;
+import com.surest.member.app.dto.MemberImportStatusDTO;
+import com.surest.member.app.entity.MemberImportJob;
+import com.surest.member.app.repository.MemberImportJobRepository;
+import com.surest.member.app.repository.MemberImportStagingRepository;
+import com.surest.member.app.repository.MemberImportStagingRepository.StagedMember;
+import com.surest.member.app.service.MemberCountService;
+import com.surest.member.app.service.MemberFileFormat;
+import com.surest.member.app.service.MemberImportService;
+import com.surest.member.app.service.MembersImportedEvent;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MemberImportServiceTest {
+
+    private static final String CSV = """
+            email,first_name,last_name,date_of_birth
+            archana@gmail.com,Archana,Pujar,1995-06-07
+            "ridha@gmail.com","Ridha ""R""","Pujar, Jr",2001-01-31\r
+            not-an-email,Bad,Email,1990-01-01
+
+            bad-date@gmail.com,Bad,Date,31/01/1990
+            """;
+
+    private MemberImportJobRepository jobRepository;
+    private MemberImportStagingRepository stagingRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(MemberImportJobRepository.class);
+        stagingRepository = mock(MemberImportStagingRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(jobRepository.save(any(MemberImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCsvRecordsAreStagedOrRejected() throws Exception {
+        MemberImportStatusDTO status = service(100).importMembers(null, MemberFileFormat.CSV, body(CSV));
+
+        ArgumentCaptor<List<StagedMember>> staged = ArgumentCaptor.forClass(List.class);
+        verify(stagingRepository).copyIntoStaging(eq(status.getJobId()), staged.capture());
+        assertThat(staged.getValue()).extracting(StagedMember::recordNumber).containsExactly(1L, 2L);
+        assertThat(staged.getValue().get(1).member().getFirstName()).isEqualTo("Ridha \"R\"");
+        assertThat(staged.getValue().get(1).member().getLastName()).isEqualTo("Pujar, Jr");
+
+        ArgumentCaptor<List<MemberImportRejectionDTO>> rejected = ArgumentCaptor.forClass(List.class);
+        verify(stagingRepository).insertRejections(eq(status.getJobId()), rejected.capture());
+        assertThat(rejected.getValue()).extracting(MemberImportRejectionDTO::getRecordNumber).containsExactly(3L, 4L);
+        assertThat(rejected.getValue().get(1).getReason()).contains("yyyy-MM-dd");
+
+        assertThat(status.getStatus()).isEqualTo(MemberImportJob.Status.COMPLETED);
+        assertThat(status.getRecordsCommitted()).isEqualTo(4);
+        assertThat(status.getRowsInserted()).isEqualTo(2);
+        assertThat(status.getRowsRejected()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(any(MembersImportedEvent.class));
+    }
+
+    @Test
+    void testDuplicateEmailsFromMergeAreCountedAsRejected() throws Exception {
+        when(stagingRepository.mergeStaged(any())).thenReturn(1);
+
+        MemberImportStatusDTO status = service(100).importMembers(null, MemberFileFormat.NDJSON, body("""
+                {"firstName":"Archana","lastName":"Pujar","email":"archana@gmail.com","dateOfBirth":"1995-06-07"}
+                {"firstName":"Archana","lastName":"Pujar","email":"archana@gmail.com","dateOfBirth":"1995-06-07"}
+                {"firstName":"Broken",
+                """));
+
+        assertThat(status.getRowsInserted()).isEqualTo(1);
+        assertThat(status.getRowsRejected()).isEqualTo(2);
+    }
+
+    @Test
+    void testEachChunkIsCommittedWithItsCheckpoint() throws Exception {
+        MemberImportStatusDTO status = service(2).importMembers(null, MemberFileFormat.CSV, body(rows(5)));
+
+        verify(stagingRepository, times(3)).copyIntoStaging(any(), anyList());
+        verify(stagingRepository, times(3)).mergeStaged(any());
+        assertThat(status.getRecordsCommitted()).isEqualTo(5);
+    }
+
+    @Test
+    void testFailedChunkKeepsLastCheckpointAndResumeSkipsCommittedRecords() throws Exception {
+        when(stagingRepository.copyIntoStaging(any(), anyList()))
+                .thenReturn(2L)
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        MemberImportStatusDTO failed = service(2).importMembers(null, MemberFileFormat.CSV, body(rows(5)));
+
+        assertThat(failed.getStatus()).isEqualTo(MemberImportJob.Status.FAILED);
+        assertThat(failed.getRecordsCommitted()).isEqualTo(2);
+        assertThat(failed.getError()).isEqualTo("connection reset");
+
+        MemberImportJob job = new MemberImportJob(failed.getJobId(), "CSV", MemberImportJob.Status.FAILED, 2, 2, 0,
+                Timestamp.from(Instant.now()), Timestamp.from(Instant.now()), null, "connection reset");
+        when(jobRepository.findById(failed.getJobId())).thenReturn(Optional.of(job));
+        reset(stagingRepository);
+
+        MemberImportStatusDTO resumed = service(2).importMembers(failed.getJobId(), MemberFileFormat.CSV, body(rows(5)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StagedMember>> staged = ArgumentCaptor.forClass(List.class);
+        verify(stagingRepository, times(2)).copyIntoStaging(eq(failed.getJobId()), staged.capture());
+        assertThat(staged.getAllValues().stream().flatMap(List::stream).map(StagedMember::recordNumber))
+                .containsExactly(3L, 4L, 5L);
+        assertThat(resumed.getStatus()).isEqualTo(MemberImportJob.Status.COMPLETED);
+        assertThat(resumed.getRowsInserted()).isEqualTo(5);
+    }
+
+    @Test
+    void testMissingCsvColumnIsRejectedBeforeJobStarts() {
+        assertThatThrownBy(() -> service(100).importMembers(null, MemberFileFormat.CSV,
+                body("first_name,last_name,email\nA,B,a@b.com\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("dateofbirth");
+        verifyNoInteractions(jobRepository, stagingRepository);
+    }
+
+    @Test
+    void testCompletedJobCannotBeResumed() {
+        UUID jobId = UUID.randomUUID();
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(new MemberImportJob(jobId, "CSV",
+                MemberImportJob.Status.COMPLETED, 5, 5, 0, null, null, null, null)));
+
+        assertThatThrownBy(() -> service(100).importMembers(jobId, MemberFileFormat.CSV, body(rows(5))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MemberImportService service(int chunkSize) {
+        return new MemberImportService(jobRepository, stagingRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper().findAndRegisterModules(),
+                mock(MemberCountService.class), eventPublisher, chunkSize, 100);
+    }
+
+    private static String rows(int count) {
+        List<String> lines = new ArrayList<>(List.of("firstName,lastName,email,dateOfBirth"));
+        for (int i = 1; i <= count; i++) {
+            lines.add("First" + i + ",Last" + i + ",member" + i + "@gmail.com,1990-01-0" + i);
+        }
+        return String.join("\n", lines);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
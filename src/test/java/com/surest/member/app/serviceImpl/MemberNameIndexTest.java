@@ -0,0 +1,169 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.dto.MemberSuggestionDTO;
+import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.service.MemberChangedEvent;
+import com.surest.member.app.service.MemberChangedEvent.Type;
+import com.surest.member.app.service.MemberNameIndex;
+import com.surest.member.app.service.MembersDeletedEvent;
+import com.surest.member.app.service.MembersImportedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MemberNameIndexTest {
+
+    private final UUID archana = UUID.randomUUID();
+    private final UUID arjun = UUID.randomUUID();
+    private final UUID ridha = UUID.randomUUID();
+    // Imported rows, streamed by a reload after the initial load
+    private final List<MemberSuggestionDTO> imported = new CopyOnWriteArrayList<>();
+
+    private MemberNameIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MemberRepository repository = mock(MemberRepository.class);
+        doAnswer(invocation -> {
+            Consumer<MemberSuggestionDTO> consumer = invocation.getArgument(0);
+            consumer.accept(new MemberSuggestionDTO(archana, "Archana", "Pujar"));
+            consumer.accept(new MemberSuggestionDTO(arjun, "Arjun", "Rao"));
+            consumer.accept(new MemberSuggestionDTO(ridha, "Ridha", "Pujar"));
+            imported.forEach(consumer);
+            return null;
+        }).when(repository).forEachName(any(Consumer.class));
+
+        index = new MemberNameIndex(repository, new SimpleMeterRegistry(), 10_000);
+        index.load();
+    }
+
+    @Test
+    void testPrefixMatchesFirstAndLastNamesCaseAndAccentInsensitive() {
+        assertThat(index.suggest("AR", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(archana, arjun);
+        assertThat(index.suggest("pújar", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(archana, ridha);
+        assertThat(index.suggest("zz", 10)).isEmpty();
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void testEveryQueryWordMustMatchAndResultsAreCapped() {
+        assertThat(index.suggest("pujar ri", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(ridha);
+        assertThat(index.suggest("ar", 1)).hasSize(1);
+    }
+
+    @Test
+    void testExactTokenRanksBeforeLongerPrefixMatches() {
+        UUID ar = UUID.randomUUID();
+        index.onMemberChanged(created(ar, "Ar", "Zed"));
+
+        assertThat(index.suggest("ar", 10)).extracting(MemberSuggestionDTO::getId).startsWith(ar);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTopMatchesOfASharedTokenDoNotDependOnLoadOrder() {
+        List<MemberSuggestionDTO> smiths = List.of("Amy", "Bob", "Cal", "Dev", "Eve", "Fay").stream()
+                .map(firstName -> new MemberSuggestionDTO(UUID.randomUUID(), firstName, "Smith"))
+                .toList();
+        MemberRepository repository = mock(MemberRepository.class);
+        doAnswer(invocation -> {
+            Consumer<MemberSuggestionDTO> consumer = invocation.getArgument(0);
+            smiths.reversed().forEach(consumer);
+            return null;
+        }).when(repository).forEachName(any(Consumer.class));
+        MemberNameIndex reversed = new MemberNameIndex(repository, new SimpleMeterRegistry(), 10_000);
+        reversed.load();
+
+        assertThat(reversed.suggest("smith", 3)).extracting(MemberSuggestionDTO::getFirstName)
+                .containsExactly("Amy", "Bob", "Cal");
+    }
+
+    @Test
+    void testImportReloadsInTheBackground() throws InterruptedException {
+        UUID importedId = UUID.randomUUID();
+        imported.add(new MemberSuggestionDTO(importedId, "Imran", "Khan"));
+
+        index.onMembersImported(new MembersImportedEvent(UUID.randomUUID(), 1));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (index.suggest("imran", 10).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(index.suggest("imran", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(importedId);
+        index.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testChangesCompactedDuringALoadAreNotLost() throws InterruptedException {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MemberRepository repository = mock(MemberRepository.class);
+        doAnswer(invocation -> {
+            Consumer<MemberSuggestionDTO> consumer = invocation.getArgument(0);
+            consumer.accept(new MemberSuggestionDTO(archana, "Archana", "Pujar"));
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(repository).forEachName(any(Consumer.class));
+        MemberNameIndex compacting = new MemberNameIndex(repository, new SimpleMeterRegistry(), 1);
+
+        Thread loader = Thread.ofPlatform().start(compacting::load);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        // Created after the load read its snapshot, and past the compaction threshold
+        UUID zed = UUID.randomUUID();
+        compacting.onMemberChanged(created(zed, "Zed", "Rao"));
+        compacting.compactIfNeeded();
+        release.countDown();
+        loader.join(5_000);
+
+        assertThat(compacting.suggest("zed", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(zed);
+        assertThat(compacting.suggest("archana", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(archana);
+    }
+
+    @Test
+    void testIndexFollowsCreateUpdateAndDelete() {
+        UUID bhavana = UUID.randomUUID();
+        index.onMemberChanged(created(bhavana, "Bhavana", "Kulkarni"));
+        assertThat(index.suggest("kul", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(bhavana);
+
+        index.onMemberChanged(new MemberChangedEvent(Type.UPDATED, archana, response(archana, "Archana", "Desai")));
+        assertThat(index.suggest("pujar", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(ridha);
+        assertThat(index.suggest("desai", 10)).extracting(MemberSuggestionDTO::getLastName).containsExactly("Desai");
+
+        index.onMemberChanged(new MemberChangedEvent(Type.DELETED, arjun, response(arjun, "Arjun", "Rao")));
+        assertThat(index.suggest("arjun", 10)).isEmpty();
+    }
+
+    @Test
+    void testBulkDeleteRemovesIndexedAndDeltaMembers() {
+        UUID bhavana = UUID.randomUUID();
+        index.onMemberChanged(created(bhavana, "Bhavana", "Pujar"));
+
+        index.onMembersDeleted(new MembersDeletedEvent(List.of(archana, bhavana)));
+
+        assertThat(index.suggest("pujar", 10)).extracting(MemberSuggestionDTO::getId).containsExactly(ridha);
+    }
+
+    private MemberChangedEvent created(UUID id, String firstName, String lastName) {
+        return new MemberChangedEvent(Type.CREATED, id, response(id, firstName, lastName));
+    }
+
+    private MemberResponseDTO response(UUID id, String firstName, String lastName) {
+        return new MemberResponseDTO(id, firstName, lastName, firstName.toLowerCase() + "@example.com", LocalDate.of(1990, 1, 1));
+    }
+}
@@ -0,0 +1,195 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.exception.ResourceNotFoundException;
+import com.surest.member.app.service.CountMode;
+import com.surest.member.app.service.MemberChangedEvent;
+import com.surest.member.app.service.MemberPageCache;
+import com.surest.member.app.service.MemberPageCache.PageQuery;
+import com.surest.member.app.service.MembersDeletedEvent;
+import com.surest.member.app.service.MembersImportedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberPageCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MemberPageCache cache;
+
+    // page number -> loads, for a table with 3 pages
+    private final Map<Integer, AtomicInteger> loads = new ConcurrentHashMap<>();
+    private final Function<PageQuery, Slice<MemberResponseDTO>> loader = query -> {
+        loads.computeIfAbsent(query.page(), page -> new AtomicInteger()).incrementAndGet();
+        return new SliceImpl<>(List.of(member("p" + query.page())), PageRequest.of(query.page(), query.size()), query.page() < 2);
+    };
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void testRepeatedQueryIsServedFromCache() {
+        cache = cache(true, 1000, false);
+        PageQuery query = new PageQuery(0, 10, "lastName,asc", "Arch", null, CountMode.NONE);
+
+        Slice<MemberResponseDTO> first = cache.get(query, loader);
+        Slice<MemberResponseDTO> second = cache.get(query, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads(0)).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "memberPages").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void testEquivalentParametersShareOneEntry() {
+        cache = cache(true, 1000, false);
+
+        cache.get(new PageQuery(0, 10, "lastName,ASC", "Arch", "", CountMode.NONE), loader);
+        cache.get(new PageQuery(0, 10, "lastName, asc", " arch ", null, CountMode.NONE), loader);
+        cache.get(new PageQuery(0, 10, "lastName", "ARCH", "  ", CountMode.NONE), loader);
+
+        assertThat(loads(0)).isEqualTo(1);
+    }
+
+    @Test
+    void testCountModeIsPartOfTheKey() {
+        cache = cache(true, 1000, false);
+
+        cache.get(new PageQuery(0, 10, null, null, null, CountMode.NONE), loader);
+        cache.get(new PageQuery(0, 10, null, null, null, CountMode.EXACT),
+                query -> new PageImpl<>(List.of(member("exact")), PageRequest.of(0, 10), 1));
+
+        assertThat(cache.get(new PageQuery(0, 10, null, null, null, CountMode.EXACT), loader).getContent())
+                .extracting(MemberResponseDTO::getFirstName).containsExactly("exact");
+    }
+
+    @Test
+    void testMemberWritesImportsAndBulkDeletesInvalidateAllPages() {
+        cache = cache(true, 1000, false);
+        PageQuery query = new PageQuery(0, 10, null, null, null, CountMode.NONE);
+        cache.get(query, loader);
+
+        UUID id = UUID.randomUUID();
+        cache.onMemberChanged(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, id, member("edited")));
+        cache.get(query, loader);
+        cache.onMembersImported(new MembersImportedEvent(UUID.randomUUID(), 100));
+        cache.get(query, loader);
+        cache.onMembersDeleted(new MembersDeletedEvent(List.of(id)));
+        cache.get(query, loader);
+
+        assertThat(loads(0)).isEqualTo(4);
+        assertThat(cache.version()).isEqualTo(3);
+    }
+
+    @Test
+    void testLoaderFailuresAreNotCached() {
+        cache = cache(true, 1000, false);
+        PageQuery query = new PageQuery(0, 10, null, "Nobody", null, CountMode.NONE);
+        AtomicInteger calls = new AtomicInteger();
+        Function<PageQuery, Slice<MemberResponseDTO>> notFound = q -> {
+            calls.incrementAndGet();
+            throw new ResourceNotFoundException("No members found for given search criteria");
+        };
+
+        assertThatThrownBy(() -> cache.get(query, notFound)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> cache.get(query, notFound)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void testNextPageIsPrefetched() throws InterruptedException {
+        cache = cache(true, 1000, true);
+        PageQuery first = new PageQuery(0, 10, "id,asc", null, null, CountMode.NONE);
+
+        cache.get(first, loader);
+        awaitLoads(1);
+        Slice<MemberResponseDTO> second = cache.get(new PageQuery(1, 10, "id,asc", null, null, CountMode.NONE), loader);
+
+        assertThat(second.getContent()).extracting(MemberResponseDTO::getFirstName).containsExactly("p1");
+        assertThat(loads(1)).isEqualTo(1);
+        assertThat(meterRegistry.get("members.page-cache.prefetches").counter().count()).isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    void testLastPageTriggersNoPrefetch() throws InterruptedException {
+        cache = cache(true, 1000, true);
+
+        cache.get(new PageQuery(2, 10, null, null, null, CountMode.NONE), loader);
+        Thread.sleep(100);
+
+        assertThat(loads).containsOnlyKeys(2);
+    }
+
+    @Test
+    void testCacheIsBoundedByRows() {
+        cache = cache(true, 50, false);
+
+        for (int page = 0; page < 500; page++) {
+            cache.get(new PageQuery(page, 10, null, null, null, CountMode.NONE), loader);
+        }
+
+        // Each page weighs 2 (one row plus one), so at most 25 pages stay resident once eviction has run
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cacheSize() > 25 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(cacheSize()).isLessThanOrEqualTo(25);
+    }
+
+    @Test
+    void testDisabledCachePassesThrough() {
+        cache = cache(false, 1000, true);
+        PageQuery query = new PageQuery(0, 10, null, null, null, CountMode.NONE);
+
+        cache.get(query, loader);
+        cache.get(query, loader);
+
+        assertThat(loads).containsOnlyKeys(0);
+        assertThat(loads(0)).isEqualTo(2);
+    }
+
+    private void awaitLoads(int page) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (loads(page) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        // the put follows the load
+        Thread.sleep(50);
+    }
+
+    private double cacheSize() {
+        return meterRegistry.get("cache.size").tag("cache", "memberPages").gauge().value();
+    }
+
+    private int loads(int page) {
+        AtomicInteger count = loads.get(page);
+        return count == null ? 0 : count.get();
+    }
+
+    private MemberPageCache cache(boolean enabled, long maximumRows, boolean prefetch) {
+        return new MemberPageCache(meterRegistry, enabled, maximumRows, Duration.ofSeconds(60), prefetch, 1);
+    }
+
+    private static MemberResponseDTO member(String firstName) {
+        return new MemberResponseDTO(UUID.randomUUID(), firstName, "Pujar", firstName + "@gmail.com", LocalDate.of(1995, 6, 7));
+    }
+}
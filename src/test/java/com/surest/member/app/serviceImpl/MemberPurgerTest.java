@@ -0,0 +1,67 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.repository.MemberDeletionRepository;
+import com.surest.member.app.service.MemberPurger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MemberPurgerTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private MemberDeletionRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MemberDeletionRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testPurgesInBatchesUntilAShortBatch() {
+        when(repository.purge(RETENTION, 100)).thenReturn(100, 100, 40);
+
+        int purged = purger(true, 10).purgeBatches();
+
+        assertThat(purged).isEqualTo(240);
+        verify(repository, times(3)).purge(RETENTION, 100);
+        assertThat(meterRegistry.get("members.purge.rows").counter().count()).isEqualTo(240.0);
+    }
+
+    @Test
+    void testRunIsCappedAtMaxBatches() {
+        when(repository.purge(any(), anyInt())).thenReturn(100);
+
+        int purged = purger(true, 3).purgeBatches();
+
+        // the rest of the backlog is left for the next run
+        assertThat(purged).isEqualTo(300);
+        verify(repository, times(3)).purge(RETENTION, 100);
+    }
+
+    @Test
+    void testDisabledPurgerTouchesNothing() {
+        purger(false, 10).purge();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testNonPositiveBatchSizeIsRejected() {
+        assertThatThrownBy(() -> new MemberPurger(repository, meterRegistry, true, RETENTION, 0, Duration.ZERO, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MemberPurger purger(boolean enabled, int maxBatches) {
+        return new MemberPurger(repository, meterRegistry, enabled, RETENTION, 100, Duration.ZERO, maxBatches);
+    }
+}
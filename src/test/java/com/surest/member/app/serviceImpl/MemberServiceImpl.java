@@ -1,19 +1,43 @@
 package com.surest.member.app.serviceImpl;
 
+import com.surest.member.app.config.CacheConfig;
+import com.surest.member.app.dto.CursorPageDTO;
+import com.surest.member.app.dto.MemberPatchDTO;
 import com.surest.member.app.dto.MemberRequestDTO;
 import com.surest.member.app.dto.MemberResponseDTO;
 import com.surest.member.app.entity.Member;
+import com.surest.member.app.exception.DuplicateResourceException;
+import com.surest.member.app.exception.PreconditionFailedException;
 import com.surest.member.app.exception.ResourceNotFoundException;
+import com.surest.member.app.repository.MemberDeletionRepository;
+import com.surest.member.app.repository.MemberPatchRepository;
 import com.surest.member.app.repository.MemberRepository;
+import com.surest.member.app.repository.MemberUpsertRepository;
+import com.surest.member.app.repository.MemberUpsertRepository.Outcome;
+import com.surest.member.app.service.CountMode;
+import com.surest.member.app.service.MemberChangedEvent;
+import com.surest.member.app.service.MemberCountService;
+import com.surest.member.app.service.MemberPageCache;
 import com.surest.member.app.service.MemberServiceImpl;
+import com.surest.member.app.service.MemberUpsertResult;
+import com.surest.member.app.util.MemberETags;
+import com.surest.member.app.util.MemberMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -24,8 +48,13 @@ import static org.mockito.Mockito.*;
 class MemberServiceImplTest {
 
     private MemberRepository repository;
-    ModelMapper modelMapper;
     private MemberServiceImpl service;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationEventPublisher eventPublisher;
+    private MemberPatchRepository patchRepository;
+    private MemberDeletionRepository deletionRepository;
+    private MemberUpsertRepository upsertRepository;
+    private CacheManager cacheManager;
 
     private Member member;
     private MemberRequestDTO memberRequestDTO;
@@ -34,8 +63,16 @@ class MemberServiceImplTest {
     @BeforeEach
     void setUp() {
         repository = mock(MemberRepository.class);
-        modelMapper = new ModelMapper();
-        service = new MemberServiceImpl(repository, modelMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        patchRepository = mock(MemberPatchRepository.class);
+        deletionRepository = mock(MemberDeletionRepository.class);
+        upsertRepository = mock(MemberUpsertRepository.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.MEMBERS);
+        service = new MemberServiceImpl(repository,
+                new MemberCountService(repository, meterRegistry, 2, Duration.ofSeconds(30), 100), eventPublisher,
+                new MemberPageCache(meterRegistry, false, 1000, Duration.ofSeconds(60), false, 1),
+                patchRepository, deletionRepository, upsertRepository, cacheManager);
 
         member = new Member();
         member.setId(UUID.randomUUID());
@@ -45,37 +82,171 @@ class MemberServiceImplTest {
         member.setDateOfBirth(LocalDate.of(1995, 6, 7));
 
         memberRequestDTO = new MemberRequestDTO("Archana", "Pujar", "archanapujar@gmail.com", LocalDate.parse("1995-06-07"));
-        memberResponseDTO = modelMapper.map(member, MemberResponseDTO.class);
+        memberResponseDTO = MemberMapper.toResponse(member);
     }
 
     // --------------------------------------------------------------------------------
 
     @Test
     void testCreateMemberSuccess() {
-        when(repository.existsByEmail(anyString())).thenReturn(false);
-        when(repository.save(any(Member.class))).thenReturn(member);
-
-        memberResponseDTO = service.createMember(memberRequestDTO);
-        assertThat(memberResponseDTO.getEmail()).isEqualTo("archanapujar@gmail.com");
-        verify(repository, times(1)).save(any(Member.class));
+        when(upsertRepository.insert(memberRequestDTO)).thenReturn(Optional.of(memberResponseDTO));
+
+        MemberResponseDTO created = service.createMember(memberRequestDTO);
+        assertThat(created.getEmail()).isEqualTo("archanapujar@gmail.com");
+        // One INSERT ... ON CONFLICT, no existence check and no JPA save
+        verify(upsertRepository, times(1)).insert(memberRequestDTO);
+        verifyNoInteractions(repository);
+        verify(eventPublisher).publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, member.getId(), memberResponseDTO));
     }
 
     @Test
     void testCreateMemberEmailAlreadyExistsThrowsException() {
-        when(repository.existsByEmail("archanapujar@gmail.com")).thenReturn(true);
+        when(upsertRepository.insert(memberRequestDTO)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> service.createMember(memberRequestDTO))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("Email already exists");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    // --------------------------------------------------------------------------------
+
+    @Test
+    void testUpsertThatCreatesPublishesCreatedAndWritesThrough() {
+        when(upsertRepository.upsert("archanapujar@gmail.com", memberRequestDTO))
+                .thenReturn(Optional.of(new MemberUpsertRepository.Result(memberResponseDTO, Outcome.CREATED)));
+
+        MemberUpsertResult result = service.upsertMemberByEmail("archanapujar@gmail.com", memberRequestDTO);
+
+        assertThat(result.created()).isTrue();
+        assertThat(cacheManager.getCache(CacheConfig.MEMBERS).get(member.getId()).get()).isSameAs(memberResponseDTO);
+        verify(eventPublisher).publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, member.getId(), memberResponseDTO));
+    }
+
+    @Test
+    void testUpsertThatUpdatesPublishesUpdated() {
+        MemberResponseDTO edited = responseWith("Edited", "Pujar", "archanapujar@gmail.com");
+        when(upsertRepository.upsert(eq("archanapujar@gmail.com"), any()))
+                .thenReturn(Optional.of(new MemberUpsertRepository.Result(edited, Outcome.UPDATED)));
+
+        MemberUpsertResult result = service.upsertMemberByEmail("archanapujar@gmail.com", memberRequestDTO);
+
+        assertThat(result.created()).isFalse();
+        assertThat(result.member()).isSameAs(edited);
+        verify(eventPublisher).publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, edited.getId(), edited));
+    }
+
+    @Test
+    void testUnchangedUpsertSkipsEventAndCache() {
+        when(upsertRepository.upsert(eq("archanapujar@gmail.com"), any()))
+                .thenReturn(Optional.of(new MemberUpsertRepository.Result(memberResponseDTO, Outcome.UNCHANGED)));
+
+        service.upsertMemberByEmail("archanapujar@gmail.com", memberRequestDTO);
+
+        assertThat(cacheManager.getCache(CacheConfig.MEMBERS).get(member.getId())).isNull();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testUpsertRetriesOnceWhenTheRowWasInvisibleToItsSnapshot() {
+        when(upsertRepository.upsert(eq("archanapujar@gmail.com"), any()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new MemberUpsertRepository.Result(memberResponseDTO, Outcome.UNCHANGED)));
+
+        MemberUpsertResult result = service.upsertMemberByEmail("archanapujar@gmail.com", memberRequestDTO);
+
+        assertThat(result.member()).isSameAs(memberResponseDTO);
+        verify(upsertRepository, times(2)).upsert(eq("archanapujar@gmail.com"), any());
+    }
+
+    @Test
+    void testUpsertWithMismatchedBodyEmailIsRejected() {
+        assertThatThrownBy(() -> service.upsertMemberByEmail("other@gmail.com", memberRequestDTO))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(upsertRepository);
     }
 
     // --------------------------------------------------------------------------------
 
+    @Test
+    void testPatchThatChangesARowPublishesAndWritesThrough() {
+        MemberPatchDTO patch = new MemberPatchDTO("Edited", null, null, null);
+        MemberResponseDTO patched = responseWith("Edited", "Pujar", "archanapujar@gmail.com");
+        when(patchRepository.patch(member.getId(), patch)).thenReturn(Optional.of(new MemberPatchRepository.Result(patched, true)));
+
+        MemberResponseDTO result = service.patchMember(member.getId(), patch);
+
+        assertThat(result).isSameAs(patched);
+        assertThat(cacheManager.getCache(CacheConfig.MEMBERS).get(member.getId()).get()).isSameAs(patched);
+        verify(eventPublisher).publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, member.getId(), patched));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testNoOpPatchSkipsEventAndCache() {
+        MemberPatchDTO patch = new MemberPatchDTO("Archana", null, null, null);
+        when(patchRepository.patch(member.getId(), patch))
+                .thenReturn(Optional.of(new MemberPatchRepository.Result(memberResponseDTO, false)));
+
+        MemberResponseDTO result = service.patchMember(member.getId(), patch);
+
+        assertThat(result).isSameAs(memberResponseDTO);
+        assertThat(cacheManager.getCache(CacheConfig.MEMBERS).get(member.getId())).isNull();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPatchOfMissingMemberIsNotFound() {
+        when(patchRepository.patch(any(), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.patchMember(member.getId(), new MemberPatchDTO("Edited", null, null, null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testPatchToTakenEmailIsRejected() {
+        when(patchRepository.patch(any(), any())).thenThrow(new DuplicateKeyException("ux_member_email_live"));
+
+        assertThatThrownBy(() -> service.patchMember(member.getId(), new MemberPatchDTO(null, null, "taken@gmail.com", null)))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Email already exists");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testCheckVersionAcceptsCurrentETagFromTheTable() {
+        Timestamp updatedAt = Timestamp.valueOf("2025-01-01 10:00:00");
+        when(repository.findUpdatedAtById(member.getId())).thenReturn(Optional.of(updatedAt));
+
+        assertThatCode(() -> service.checkVersion(member.getId(), MemberETags.of(member.getId(), updatedAt)))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> service.checkVersion(member.getId(), "*")).doesNotThrowAnyException();
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testCheckVersionRejectsStaleETag() {
+        Timestamp before = Timestamp.valueOf("2025-01-01 10:00:00");
+        when(repository.findUpdatedAtById(member.getId())).thenReturn(Optional.of(Timestamp.valueOf("2025-01-01 10:05:00")));
+
+        assertThatThrownBy(() -> service.checkVersion(member.getId(), MemberETags.of(member.getId(), before)))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("has been modified");
+    }
+
+    @Test
+    void testCheckVersionOfMissingMemberIsNotFound() {
+        when(repository.findUpdatedAtById(member.getId())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.checkVersion(member.getId(), "*"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     void testGetAllMembersNoFiltersReturnsPage() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Member> page = new PageImpl<>(List.of(member));
 
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findContent(isNull(), eq(pageable), eq(10))).thenReturn(List.of(memberResponseDTO));
+        when(repository.count()).thenReturn(1L);
 
         Page<MemberResponseDTO> result = service.getAllMembers(0, 10, null, null, null);
 
@@ -85,8 +256,8 @@ class MemberServiceImplTest {
 
     @Test
     void testGetAllMembersWithFiltersNoResultsThrowsExceptionTest() {
-        when(repository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(Page.empty());
+        when(repository.findContent(any(Specification.class), any(Pageable.class), anyInt()))
+                .thenReturn(List.of());
 
         assertThatThrownBy(() ->
                 service.getAllMembers(0, 10, null, "Nonexistent", null))
@@ -99,8 +270,8 @@ class MemberServiceImplTest {
         int page = 0, size = 2;
         String firstName = "NonExistent";
 
-        when(repository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(Page.empty());
+        when(repository.findContent(any(Specification.class), any(Pageable.class), anyInt()))
+                .thenReturn(List.of());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
                 () -> service.getAllMembers(page, size, null, firstName, null));
@@ -109,6 +280,125 @@ class MemberServiceImplTest {
     }
 
 
+    @Test
+    void testExactCountRunsConcurrentlyWithContentQuery() throws InterruptedException {
+        CountDownLatch contentStarted = new CountDownLatch(1);
+        when(repository.findContent(isNull(), any(Pageable.class), eq(10))).thenAnswer(invocation -> {
+            contentStarted.countDown();
+            return List.of(memberResponseDTO);
+        });
+        // The count only finishes once the content query has started, which a sequential count would never see
+        when(repository.count()).thenAnswer(invocation -> contentStarted.await(5, TimeUnit.SECONDS) ? 42L : -1L);
+
+        Page<MemberResponseDTO> result = service.getAllMembers(0, 10, "id,asc", null, null);
+
+        assertThat(result.getTotalElements()).isEqualTo(42L);
+        assertThat(meterRegistry.get("members.count").tag("mode", "exact").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCachedCountIsReusedForSameFilterSignature() {
+        when(repository.findContent(any(Specification.class), any(Pageable.class), anyInt())).thenReturn(List.of(memberResponseDTO));
+        when(repository.count(any(Specification.class))).thenReturn(25L);
+
+        Slice<MemberResponseDTO> first = service.getMembers(0, 10, null, "Arch", null, CountMode.CACHED);
+        Slice<MemberResponseDTO> second = service.getMembers(1, 10, null, " arch ", null, CountMode.CACHED);
+
+        assertThat(((Page<MemberResponseDTO>) first).getTotalElements()).isEqualTo(25L);
+        assertThat(((Page<MemberResponseDTO>) second).getTotalElements()).isEqualTo(25L);
+        verify(repository, times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    void testRenameAndPatchDropCachedCounts() {
+        when(repository.findContent(any(Specification.class), any(Pageable.class), anyInt())).thenReturn(List.of(memberResponseDTO));
+        when(repository.count(any(Specification.class))).thenReturn(25L, 24L, 25L);
+        when(repository.findById(member.getId())).thenReturn(Optional.of(member));
+        when(repository.save(any(Member.class))).thenReturn(member);
+        MemberPatchDTO patch = new MemberPatchDTO("Archana", null, null, null);
+        when(patchRepository.patch(member.getId(), patch))
+                .thenReturn(Optional.of(new MemberPatchRepository.Result(memberResponseDTO, true)));
+
+        service.getMembers(0, 10, null, "Arch", null, CountMode.CACHED);
+        service.updateMember(member.getId(), new MemberRequestDTO("Renamed", "Pujar", "archanapujar@gmail.com", LocalDate.parse("1995-06-07")));
+        Slice<MemberResponseDTO> afterRename = service.getMembers(0, 10, null, "Arch", null, CountMode.CACHED);
+        service.patchMember(member.getId(), patch);
+        Slice<MemberResponseDTO> afterPatch = service.getMembers(0, 10, null, "Arch", null, CountMode.CACHED);
+
+        assertThat(((Page<MemberResponseDTO>) afterRename).getTotalElements()).isEqualTo(24L);
+        assertThat(((Page<MemberResponseDTO>) afterPatch).getTotalElements()).isEqualTo(25L);
+        verify(repository, times(3)).count(any(Specification.class));
+    }
+
+    @Test
+    void testEstimatedCountUsesPlannerEstimate() {
+        when(repository.findContent(any(Specification.class), any(Pageable.class), anyInt())).thenReturn(List.of(memberResponseDTO));
+        when(repository.estimateCount("Arch", null)).thenReturn(120L);
+
+        Slice<MemberResponseDTO> result = service.getMembers(0, 10, null, "Arch", null, CountMode.ESTIMATED);
+
+        assertThat(((Page<MemberResponseDTO>) result).getTotalElements()).isEqualTo(120L);
+        verify(repository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void testListPathsReturnProjectionsAsIs() {
+        when(repository.findContent(isNull(), any(Pageable.class), eq(11))).thenReturn(List.of(memberResponseDTO));
+        when(repository.findPageAfter(eq("id"), eq(true), isNull(), isNull(), isNull(), isNull(), eq(11)))
+                .thenReturn(List.of(memberResponseDTO));
+
+        Slice<MemberResponseDTO> slice = service.getMembers(0, 10, "id,asc", null, null, CountMode.NONE);
+        CursorPageDTO<MemberResponseDTO> cursorPage = service.getMembersAfter("", 10, "id,asc", null, null);
+
+        assertThat(slice.getContent()).singleElement().isSameAs(memberResponseDTO);
+        assertThat(cursorPage.getContent()).singleElement().isSameAs(memberResponseDTO);
+    }
+
+    @Test
+    void testCountNoneReturnsSliceWithoutCounting() {
+        MemberResponseDTO second = responseWith("Bhavana", "Kulkarni", "bhavana@gmail.com");
+        when(repository.findContent(isNull(), any(Pageable.class), eq(2))).thenReturn(List.of(memberResponseDTO, second));
+
+        Slice<MemberResponseDTO> result = service.getMembers(0, 1, null, null, null, CountMode.NONE);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        verify(repository, never()).count();
+        verify(repository, never()).estimateCount(any(), any());
+    }
+
+    @Test
+    void testGetMembersAfterReturnsNextCursorAndSeeksFromIt() {
+        MemberResponseDTO second = responseWith("Bhavana", "Kulkarni", "bhavana@gmail.com");
+        MemberResponseDTO third = responseWith("Chetan", "Rao", "chetan@gmail.com");
+        when(repository.findPageAfter(eq("lastName"), eq(true), isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(second, memberResponseDTO, third));
+
+        CursorPageDTO<MemberResponseDTO> first = service.getMembersAfter("", 2, "lastName,asc", null, null);
+
+        assertThat(first.getContent()).extracting(MemberResponseDTO::getLastName).containsExactly("Kulkarni", "Pujar");
+        assertThat(first.getNextCursor()).isNotNull();
+
+        when(repository.findPageAfter(eq("lastName"), eq(true), eq("Pujar"), eq(member.getId()), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(third));
+
+        CursorPageDTO<MemberResponseDTO> next = service.getMembersAfter(first.getNextCursor(), 2, "lastName,asc", null, null);
+
+        assertThat(next.getContent()).extracting(MemberResponseDTO::getLastName).containsExactly("Rao");
+        assertThat(next.getNextCursor()).isNull();
+        verify(repository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void testGetMembersAfterRejectsUnknownSortAndForeignCursor() {
+        assertThatThrownBy(() -> service.getMembersAfter("", 10, "createdAt,asc", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getMembersAfter("not-a-cursor", 10, "id,asc", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getMembersAfter("", 0, "id,asc", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 
     @Test
     void testGetMemberByIdSuccess() {
@@ -134,17 +424,20 @@ class MemberServiceImplTest {
     @Test
     void testDeleteMemberSuccess() {
         UUID id = member.getId();
-        when(repository.findById(id)).thenReturn(Optional.of(member));
+        when(deletionRepository.softDelete(id)).thenReturn(Optional.of(memberResponseDTO));
 
         service.deleteMember(id);
 
-        verify(repository).delete(member);
+        // One UPDATE ... RETURNING, nothing loaded or removed through JPA
+        verify(repository, never()).findById(any());
+        verify(repository, never()).delete(any());
+        verify(eventPublisher).publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, id, memberResponseDTO));
     }
 
     @Test
     void testDeleteMemberNotFoundThrowsException() {
         UUID id = UUID.randomUUID();
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(deletionRepository.softDelete(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.deleteMember(id))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -175,4 +468,18 @@ class MemberServiceImplTest {
         assertThatThrownBy(() -> service.updateMember(id, memberRequestDTO))
                 .isInstanceOf(RuntimeException.class);
     }
+
+    private MemberResponseDTO responseWith(String firstName, String lastName, String email) {
+        return MemberMapper.toResponse(memberWith(firstName, lastName, email));
+    }
+
+    private Member memberWith(String firstName, String lastName, String email) {
+        Member m = new Member();
+        m.setId(UUID.randomUUID());
+        m.setFirstName(firstName);
+        m.setLastName(lastName);
+        m.setEmail(email);
+        m.setDateOfBirth(LocalDate.of(1995, 6, 7));
+        return m;
+    }
 }
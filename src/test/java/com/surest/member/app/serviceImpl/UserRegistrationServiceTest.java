@@ -0,0 +1,110 @@
+package com.surest.member.app.serviceImpl;
+
+import com.surest.member.app.dto.RegisterRequestDTO;
+import com.surest.member.app.dto.RegistrationResultDTO;
+import com.surest.member.app.dto.RegistrationResultDTO.Status;
+import com.surest.member.app.entity.Role;
+import com.surest.member.app.entity.User;
+import com.surest.member.app.repository.RoleRepository;
+import com.surest.member.app.repository.UserRepository;
+import com.surest.member.app.service.CustomUserDetailsService;
+import com.surest.member.app.service.UserRegistrationService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserRegistrationServiceTest {
+
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+    private CustomUserDetailsService userDetailsService;
+    private PasswordEncoder passwordEncoder;
+    private UserRegistrationService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        roleRepository = mock(RoleRepository.class);
+        userDetailsService = mock(CustomUserDetailsService.class);
+        passwordEncoder = new BCryptPasswordEncoder();
+        service = new UserRegistrationService(userRepository, roleRepository, passwordEncoder, userDetailsService,
+                Validation.buildDefaultValidatorFactory().getValidator(), 5000);
+
+        Role user = new Role();
+        user.setRoleName("USER");
+        when(roleRepository.findAll()).thenReturn(List.of(user));
+    }
+
+    @Test
+    void testBatchReportsPerItemResults() {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of("taken"));
+
+        List<RegistrationResultDTO> results = service.registerBatch(List.of(
+                new RegisterRequestDTO("new-user", "secret", "USER"),
+                new RegisterRequestDTO("taken", "secret", "USER"),
+                new RegisterRequestDTO("new-user", "secret", "USER"),
+                new RegisterRequestDTO("no-role", "secret", "AUDITOR"),
+                new RegisterRequestDTO("", "secret", "USER")
+        ));
+
+        assertThat(results).extracting(RegistrationResultDTO::getStatus)
+                .containsExactly(Status.CREATED, Status.DUPLICATE, Status.DUPLICATE, Status.INVALID, Status.INVALID);
+        assertThat(results.get(3).getMessage()).isEqualTo("Role not found");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(1);
+        assertThat(passwordEncoder.matches("secret", saved.getValue().get(0).getPasswordHash())).isTrue();
+
+        // one role lookup and one duplicate query for the whole batch
+        verify(roleRepository, times(1)).findAll();
+        verify(userRepository, times(1)).findExistingUsernames(anyCollection());
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void testBatchOverLimitIsRejected() {
+        UserRegistrationService small = new UserRegistrationService(userRepository, roleRepository, passwordEncoder,
+                userDetailsService, Validation.buildDefaultValidatorFactory().getValidator(), 1);
+
+        List<RegisterRequestDTO> requests = List.of(
+                new RegisterRequestDTO("a", "secret", "USER"),
+                new RegisterRequestDTO("b", "secret", "USER"));
+
+        assertThatThrownBy(() -> small.registerBatch(requests))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEveryUserOfALargeBatchGetsItsOwnHash() {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        List<RegisterRequestDTO> requests = new ArrayList<>();
+        IntStream.range(0, 32).forEach(i -> requests.add(new RegisterRequestDTO("user-" + i, "secret-" + i, "USER")));
+
+        List<RegistrationResultDTO> results = service.registerBatch(requests);
+
+        assertThat(results).allMatch(r -> r.getStatus() == Status.CREATED);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(32);
+        // Hashed in parallel, but each hash still belongs to its own user
+        for (User user : saved.getValue()) {
+            String index = user.getUsername().substring("user-".length());
+            assertThat(passwordEncoder.matches("secret-" + index, user.getPasswordHash())).isTrue();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.surest.member.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingBloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("member-" + i + "@gmail.com");
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("member-" + i + "@gmail.com")).isTrue();
+        }
+    }
+
+    @Test
+    void testRemoveForgetsOnlyTheRemovedValues() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("member-" + i + "@gmail.com");
+        }
+        for (int i = 0; i < 500; i++) {
+            filter.remove("member-" + i + "@gmail.com");
+        }
+
+        for (int i = 500; i < 1_000; i++) {
+            assertThat(filter.mightContain("member-" + i + "@gmail.com")).isTrue();
+        }
+        int stillPresent = 0;
+        for (int i = 0; i < 500; i++) {
+            if (filter.mightContain("member-" + i + "@gmail.com")) {
+                stillPresent++;
+            }
+        }
+        assertThat(stillPresent).isLessThan(25);
+    }
+
+    @Test
+    void testValueAddedTwiceSurvivesOneRemove() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        filter.add("archana@gmail.com");
+        filter.add("archana@gmail.com");
+
+        filter.remove("archana@gmail.com");
+        assertThat(filter.mightContain("archana@gmail.com")).isTrue();
+
+        filter.remove("archana@gmail.com");
+        assertThat(filter.mightContain("archana@gmail.com")).isFalse();
+    }
+
+    @Test
+    void testSaturatedCountersAreNeverCleared() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        for (int i = 0; i < 20; i++) {
+            filter.add("archana@gmail.com");
+        }
+        for (int i = 0; i < 20; i++) {
+            filter.remove("archana@gmail.com");
+        }
+        assertThat(filter.mightContain("archana@gmail.com")).isTrue();
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,18 @@
+package com.surest.member.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePatternsTest {
+
+    @Test
+    void testContainsPatternIsLowerCasedAndTrimmed() {
+        assertThat(LikePatterns.containsIgnoreCase("  ArChana ")).isEqualTo("%archana%");
+    }
+
+    @Test
+    void testWildcardsInInputAreMatchedLiterally() {
+        assertThat(LikePatterns.containsIgnoreCase("50%_off\\")).isEqualTo("%50\\%\\_off\\\\%");
+    }
+}
@@ -0,0 +1,81 @@
+package com.surest.member.app.util;
+
+import com.surest.member.app.dto.MemberResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberETagsTest {
+
+    private static final UUID ID = UUID.fromString("3f1c2a8e-5b7d-4e2a-9c1f-0a6b8d4e2f10");
+    private static final Timestamp UPDATED = Timestamp.from(Instant.parse("2025-01-01T10:00:00.123456Z"));
+
+    @Test
+    void testTagIsQuotedAndStableForTheSameVersion() {
+        String tag = MemberETags.of(ID, UPDATED);
+
+        assertThat(tag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+        assertThat(MemberETags.of(ID, Timestamp.from(UPDATED.toInstant()))).isEqualTo(tag);
+    }
+
+    @Test
+    void testTagChangesWithUpdatedAtAndId() {
+        String tag = MemberETags.of(ID, UPDATED);
+
+        assertThat(MemberETags.of(ID, Timestamp.from(Instant.parse("2025-01-01T10:00:00.123457Z")))).isNotEqualTo(tag);
+        assertThat(MemberETags.of(UUID.randomUUID(), UPDATED)).isNotEqualTo(tag);
+    }
+
+    @Test
+    void testSubMicrosecondPrecisionIsIgnored() {
+        // A freshly written entity can carry nanos the timestamp(6) column does not keep
+        Timestamp written = Timestamp.from(Instant.parse("2025-01-01T10:00:00.123456789Z"));
+
+        assertThat(MemberETags.of(ID, written)).isEqualTo(MemberETags.of(ID, UPDATED));
+    }
+
+    @Test
+    void testUnknownVersionHasNoTag() {
+        assertThat(MemberETags.of(new MemberResponseDTO(ID, "Archana", "Pujar", "archanapujar@gmail.com",
+                LocalDate.of(1995, 6, 7)))).isNull();
+    }
+
+    @Test
+    void testPageTagCoversRowsAndMetadata() {
+        MemberResponseDTO first = member(UPDATED);
+        MemberResponseDTO second = member(UPDATED);
+        String tag = MemberETags.ofPage(List.of(first, second), 0, 10, 2L);
+
+        assertThat(MemberETags.ofPage(List.of(first, second), 0, 10, 2L)).isEqualTo(tag);
+        assertThat(MemberETags.ofPage(List.of(second, first), 0, 10, 2L)).isNotEqualTo(tag);
+        assertThat(MemberETags.ofPage(List.of(first, second), 0, 10, 3L)).isNotEqualTo(tag);
+
+        second.setUpdatedAt(Timestamp.from(Instant.parse("2025-01-02T00:00:00Z")));
+        assertThat(MemberETags.ofPage(List.of(first, second), 0, 10, 2L)).isNotEqualTo(tag);
+
+        second.setUpdatedAt(null);
+        assertThat(MemberETags.ofPage(List.of(first, second), 0, 10, 2L)).isNull();
+    }
+
+    @Test
+    void testIfMatchUsesStrongComparison() {
+        String current = MemberETags.of(ID, UPDATED);
+
+        assertThat(MemberETags.matches(current, current)).isTrue();
+        assertThat(MemberETags.matches("\"other\", " + current, current)).isTrue();
+        assertThat(MemberETags.matches("*", current)).isTrue();
+        assertThat(MemberETags.matches("W/" + current, current)).isFalse();
+        assertThat(MemberETags.matches("\"other\"", current)).isFalse();
+    }
+
+    private static MemberResponseDTO member(Timestamp updatedAt) {
+        return new MemberResponseDTO(UUID.randomUUID(), "Archana", "Pujar", "archanapujar@gmail.com",
+                LocalDate.of(1995, 6, 7), updatedAt);
+    }
+}
@@ -0,0 +1,61 @@
+package com.surest.member.app.util;
+
+import com.surest.member.app.dto.MemberRequestDTO;
+import com.surest.member.app.dto.MemberResponseDTO;
+import com.surest.member.app.entity.Member;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberMapperTest {
+
+    @Test
+    void testToEntityCopiesEditableFieldsOnly() {
+        Member member = MemberMapper.toEntity(
+                new MemberRequestDTO("Archana", "Pujar", "archanapujar@gmail.com", LocalDate.parse("1995-06-07")));
+
+        assertThat(member.getId()).isNull();
+        assertThat(member.getCreatedAt()).isNull();
+        assertThat(member.getFirstName()).isEqualTo("Archana");
+        assertThat(member.getLastName()).isEqualTo("Pujar");
+        assertThat(member.getEmail()).isEqualTo("archanapujar@gmail.com");
+        assertThat(member.getDateOfBirth()).isEqualTo(LocalDate.of(1995, 6, 7));
+    }
+
+    @Test
+    void testApplyToKeepsIdAndTimestamps() {
+        UUID id = UUID.randomUUID();
+        Timestamp created = Timestamp.valueOf("2024-01-01 10:00:00");
+        Member member = new Member(id, "Old", "Name", LocalDate.of(1990, 1, 1), "old@gmail.com", created, created);
+
+        MemberMapper.applyTo(new MemberRequestDTO("Ridha", "Khan", "ridha@gmail.com", LocalDate.parse("1990-01-05")), member);
+
+        assertThat(member.getId()).isEqualTo(id);
+        assertThat(member.getCreatedAt()).isEqualTo(created);
+        assertThat(member.getFirstName()).isEqualTo("Ridha");
+        assertThat(member.getEmail()).isEqualTo("ridha@gmail.com");
+        assertThat(member.getDateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 5));
+    }
+
+    @Test
+    void testToResponse() {
+        UUID id = UUID.randomUUID();
+        Member member = new Member(id, "Archana", "Pujar", LocalDate.of(1995, 6, 7), "archanapujar@gmail.com", null, null);
+
+        assertThat(MemberMapper.toResponse(member)).isEqualTo(
+                new MemberResponseDTO(id, "Archana", "Pujar", "archanapujar@gmail.com", LocalDate.of(1995, 6, 7)));
+    }
+
+    @Test
+    void testToResponseCarriesUpdatedAtForETags() {
+        Timestamp updated = Timestamp.valueOf("2024-03-01 12:30:00");
+        Member member = new Member(UUID.randomUUID(), "Archana", "Pujar", LocalDate.of(1995, 6, 7),
+                "archanapujar@gmail.com", updated, updated);
+
+        assertThat(MemberMapper.toResponse(member).getUpdatedAt()).isEqualTo(updated);
+    }
+}